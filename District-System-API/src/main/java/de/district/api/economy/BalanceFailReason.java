@@ -21,6 +21,7 @@ public enum BalanceFailReason {
     INSUFFICIENT_FUNDS("InsufficientFunds"),
     INVALID_AMOUNT("InvalidAmount"),
     TRANSFER_EXCEEDS_MAX_VALUE("TransferExceedsMaxValue"),
+    ATM_OUT_OF_CASH("AtmOutOfCash"),
     UNKNOWN("Unknown");
 
     private final String reason;
@@ -24,6 +24,11 @@ public interface GameAtm {
     /**
      * Retrieves the amount of money currently available at this ATM.
      *
+     * <p>The ATMs returned by the location searches read this amount from the live cash reserve of the ATM, so it
+     * includes withdrawals and refills that have not been persisted yet. The cash held by a location entity, e.g. as
+     * returned by {@link de.district.api.location.service.LocationService#getLocationById(long)}, is the amount last
+     * written to the database and may lag behind by up to one persistence interval.</p>
+     *
      * @return the available money at the ATM.
      */
     double getAvailableMoney();
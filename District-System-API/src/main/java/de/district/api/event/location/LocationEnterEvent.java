@@ -0,0 +1,23 @@
+package de.district.api.event.location;
+
+import de.district.api.entity.PluginPlayer;
+import de.district.api.location.Location;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+public class LocationEnterEvent extends LocationEvent {
+    private static final HandlerList handlers = new HandlerList();
+
+    public LocationEnterEvent(@NotNull final PluginPlayer player, @NotNull final Location location) {
+        super(player, location);
+    }
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return handlers;
+    }
+}
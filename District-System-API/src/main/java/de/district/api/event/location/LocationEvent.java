@@ -0,0 +1,26 @@
+package de.district.api.event.location;
+
+import de.district.api.entity.PluginPlayer;
+import de.district.api.location.Location;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+abstract class LocationEvent extends Event {
+    private final PluginPlayer player;
+    private final Location location;
+
+    protected LocationEvent(@NotNull final PluginPlayer player, @NotNull final Location location) {
+        this.player = player;
+        this.location = location;
+    }
+
+    @NotNull
+    public PluginPlayer getPlayer() {
+        return player;
+    }
+
+    @NotNull
+    public Location getLocation() {
+        return location;
+    }
+}
@@ -15,7 +15,6 @@ import org.bukkit.inventory.ItemStack;
  * @author Erik Pförtner
  * @version 1.0.0
  * @see InventoryManager
- * @see CustomItemInventoryCache
  */
 public abstract class CustomItem {
 
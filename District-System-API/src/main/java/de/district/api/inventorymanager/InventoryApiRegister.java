@@ -3,27 +3,31 @@ package de.district.api.inventorymanager;
 import org.bukkit.Bukkit;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Field;
-
 /**
  * This class is used to register the InventoryAPI.
- * It only registers the events and creates the cache.
+ * It only registers the events, creates the session manager and schedules the check for leaked sessions.
  * This class is the only one you need to register in your Main class.
  *
  * @author Erik Pförtner
  * @version 1.0.0
  * @see InventoryListener
  * @see InventoryClickListener
- * @see CustomInventoryCache
- * @see CustomItemInventoryCache
+ * @see InventorySessionManager
  */
 public class InventoryApiRegister {
 
-    private static CustomInventoryCache customInventoryCache;
+    /**
+     * The interval in ticks between two checks for leaked sessions.
+     */
+    private static final long LEAK_CHECK_INTERVAL = 20L * 60L;
+
+    private static InventorySessionManager sessionManager;
     private static InventoryListener inventoryListener;
     private static InventoryClickListener inventoryClickListener;
+    private static BukkitTask leakCheckTask;
     private static boolean registered = false;
 
     InventoryApiRegister() {
@@ -34,12 +38,12 @@ public class InventoryApiRegister {
         if (registered) {
             throw new IllegalStateException("InventoryManager is already registered");
         }
-        new CustomItemInventoryCache();
-        customInventoryCache = new CustomInventoryCache();
+        sessionManager = new InventorySessionManager(plugin.getLogger());
         inventoryListener = new InventoryListener();
         inventoryClickListener = new InventoryClickListener();
         Bukkit.getPluginManager().registerEvents(inventoryListener, plugin);
         Bukkit.getPluginManager().registerEvents(inventoryClickListener, plugin);
+        leakCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, sessionManager::purgeLeakedSessions, LEAK_CHECK_INTERVAL, LEAK_CHECK_INTERVAL);
         registered = true;
     }
 
@@ -47,22 +51,19 @@ public class InventoryApiRegister {
         if (!registered) {
             throw new IllegalStateException("InventoryManager is not registered");
         }
-        customInventoryCache = null;
+        leakCheckTask.cancel();
         HandlerList.unregisterAll(inventoryListener);
         HandlerList.unregisterAll(inventoryClickListener);
+        sessionManager.closeAll();
+        sessionManager = null;
         registered = false;
-        try {
-            Field field = CustomItemInventoryCache.class.getDeclaredField("instance");
-            field.setAccessible(true);
-            field.set(null, null);
-        } catch (NoSuchFieldException e) {
-            throw new IllegalStateException("Could not find instance field in CustomItemInventoryCache", e);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Could not access instance field in CustomItemInventoryCache", e);
-        }
     }
 
-    public static CustomInventoryCache getCustomInventoryCache() {
-        return customInventoryCache;
+    public static boolean isRegistered() {
+        return registered;
+    }
+
+    public static InventorySessionManager getSessionManager() {
+        return sessionManager;
     }
 }
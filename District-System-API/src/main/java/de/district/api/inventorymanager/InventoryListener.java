@@ -2,19 +2,18 @@ package de.district.api.inventorymanager;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.player.PlayerKickEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 
-import java.util.Optional;
-
 /**
  * This class is used to listen to events that are related to the inventory.
- * It is used to remove the inventory from the cache when the player closes the inventory.
- * It is also used to remove the inventory from the cache when the player leaves the server.
- * It is also used to remove the inventory from the cache when the player is kicked from the server.
+ * It is used to close the session of a player when the player closes the inventory.
+ * It is also used to close the session of a player when the player leaves the server.
+ * It is also used to close the session of a player when the player is kicked from the server.
  *
  * @author Erik Pförtner
  * @version 1.0.0
@@ -22,80 +21,48 @@ import java.util.Optional;
  * @see PlayerQuitEvent
  * @see PlayerKickEvent
  * @see Inventory
+ * @see InventorySessionManager
  */
 public class InventoryListener implements Listener {
 
     /**
-     * This method is used to remove the inventory from the cache when the player closes the inventory.
+     * This method is used to close the session when the player closes its inventory.
      *
      * @param event The event that is called when the player closes the inventory.
      * @see InventoryCloseEvent
-     * @see Player
-     * @see Inventory
-     * @see InventoryApiRegister
-     * @see CustomItemInventoryCache
+     * @see InventorySessionManager#close(java.util.UUID, Inventory)
      * @since 1.0.0
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onInventoryClose(InventoryCloseEvent event) {
         if (event.getPlayer() instanceof Player player) {
-            Inventory inv = event.getInventory();
-            Optional<InventoryManager> inventoryManagerOptional = InventoryApiRegister.getCustomInventoryCache().getInventory(player);
-            if (inventoryManagerOptional.isPresent()) {
-                InventoryManager inventoryManager = inventoryManagerOptional.get();
-                if (inv.equals(inventoryManager.getInventory())) {
-                    if (CustomItemInventoryCache.getInstance().containsInventoryManager(inventoryManager)) {
-                        CustomItemInventoryCache.getInstance().removeInventoryManager(inventoryManager);
-                    }
-                    InventoryApiRegister.getCustomInventoryCache().removeInventory(player);
-                }
-            }
+            InventoryApiRegister.getSessionManager().close(player.getUniqueId(), event.getInventory());
         }
     }
 
     /**
-     * This method is used to remove the inventory from the cache when the player leaves the server.
+     * This method is used to close the session when the player leaves the server.
      *
      * @param event The event that is called when the player leaves the server.
      * @see PlayerQuitEvent
-     * @see Player
-     * @see InventoryApiRegister
-     * @see CustomItemInventoryCache
+     * @see InventorySessionManager#close(java.util.UUID)
      * @since 1.0.0
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        Optional<InventoryManager> inventoryManagerOptional = InventoryApiRegister.getCustomInventoryCache().getInventory(player);
-        if (inventoryManagerOptional.isPresent()) {
-            InventoryManager inventoryManager = inventoryManagerOptional.get();
-            if (CustomItemInventoryCache.getInstance().containsInventoryManager(inventoryManager)) {
-                CustomItemInventoryCache.getInstance().removeInventoryManager(inventoryManager);
-            }
-            InventoryApiRegister.getCustomInventoryCache().removeInventory(player);
-        }
+        InventoryApiRegister.getSessionManager().close(event.getPlayer().getUniqueId());
     }
 
     /**
-     * This method is used to remove the inventory from the cache when the player is kicked from the server.
+     * This method is used to close the session when the player is kicked from the server.
      *
      * @param event The event that is called when the player is kicked from the server.
      * @see PlayerKickEvent
-     * @see Player
-     * @see InventoryApiRegister
-     * @see CustomItemInventoryCache
+     * @see InventorySessionManager#close(java.util.UUID)
      * @since 1.0.0
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerKickEvent(PlayerKickEvent event) {
-        Player player = event.getPlayer();
-        Optional<InventoryManager> inventoryManagerOptional = InventoryApiRegister.getCustomInventoryCache().getInventory(player);
-        if (inventoryManagerOptional.isPresent()) {
-            InventoryManager inventoryManager = inventoryManagerOptional.get();
-            if (CustomItemInventoryCache.getInstance().containsInventoryManager(inventoryManager)) {
-                CustomItemInventoryCache.getInstance().removeInventoryManager(inventoryManager);
-            }
-            InventoryApiRegister.getCustomInventoryCache().removeInventory(player);
-        }
+        InventoryApiRegister.getSessionManager().close(event.getPlayer().getUniqueId());
     }
 }
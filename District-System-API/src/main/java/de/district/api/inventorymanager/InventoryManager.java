@@ -4,11 +4,19 @@ import de.district.api.util.ItemBuilder;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -22,6 +30,13 @@ import java.util.UUID;
  */
 public class InventoryManager {
 
+    /**
+     * The key of the tag that identifies {@link CustomItem}s without a slot, the value is their index in {@link #unslottedItems}.
+     */
+    private static final NamespacedKey CUSTOM_ITEM_KEY = Objects.requireNonNull(NamespacedKey.fromString("district:custom_item"));
+
+    private final List<CustomItem> unslottedItems = new ArrayList<>();
+    private CustomItem[] items;
     private Component name;
     private int size;
     private UUID uuid;
@@ -43,8 +58,9 @@ public class InventoryManager {
         this.name = Component.text(name);
         this.uuid = player.getUniqueId();
         this.canceled = canceled;
+        this.items = new CustomItem[size];
         this.inv = Bukkit.createInventory(null, size, name);
-        InventoryApiRegister.getCustomInventoryCache().addInventory(player, this);
+        InventoryApiRegister.getSessionManager().open(this);
         player.openInventory(inv);
     }
 
@@ -91,20 +107,30 @@ public class InventoryManager {
         this.uuid = player.getUniqueId();
         this.canceled = canceled;
         this.fillRest = fillRest;
+        this.items = new CustomItem[size];
         this.inv = Bukkit.createInventory(null, size, name);
-        InventoryApiRegister.getCustomInventoryCache().addInventory(player, this);
+        InventoryApiRegister.getSessionManager().open(this);
         player.openInventory(inv);
 
         if (fillRest) {
-            for (int i = 0; i < size; i++) {
-                if (inv.getItem(i) == null) {
-                    ItemStack stack = new ItemBuilder(Material.BLACK_STAINED_GLASS_PANE).setName(" ").build();
-                    inv.setItem(i, stack);
-                }
-            }
+            // the inventory was just created, so every slot is empty; Bukkit copies the filler into each slot
+            ItemStack[] contents = new ItemStack[size];
+            Arrays.fill(contents, filler());
+            inv.setContents(contents);
         }
     }
 
+    /**
+     * Returns the Black Stained Glass that empty slots are filled with. It is built once and must not be modified.
+     *
+     * @return The filler {@link ItemStack}.
+     * @since 1.0.0
+     */
+    @NotNull
+    static ItemStack filler() {
+        return Filler.ITEM;
+    }
+
     /**
      * Returns the player who has the {@link Inventory}.
      *
@@ -169,31 +195,106 @@ public class InventoryManager {
 
     /**
      * This method is used to set a {@link CustomItem} in the {@link Inventory}.
-     * It also adds the {@link CustomItem} to the {@link CustomItemInventoryCache}.
+     * The {@link CustomItem} is indexed by its slot, so a click on it is dispatched without searching.
      * If you want to add a {@link CustomItem} to the {@link Inventory} use {@link #addItem(CustomItem)}.
      *
      * @param customItem The {@link CustomItem} which should be set.
-     * @see CustomItemInventoryCache
+     * @throws IllegalArgumentException if the slot of the {@link CustomItem} is outside the {@link Inventory}.
      * @see CustomItem
      * @since 1.0.0
      */
     public void setItem(@NotNull final CustomItem customItem) {
+        bindItem(customItem);
         getInventory().setItem(customItem.slot, customItem.itemStack);
-        CustomItemInventoryCache.getInstance().addCustomItem(this, customItem);
+    }
+
+    /**
+     * This method is used to remove the {@link CustomItem} and the {@link ItemStack} in the given slot.
+     *
+     * @param slot The slot which should be cleared.
+     * @throws IllegalArgumentException if the slot is outside the {@link Inventory}.
+     * @since 1.0.0
+     */
+    public void removeItem(final int slot) {
+        if (slot < 0 || slot >= this.items.length) {
+            throw new IllegalArgumentException("slot " + slot + " is outside of the inventory");
+        }
+        this.items[slot] = null;
+        getInventory().setItem(slot, null);
+    }
+
+    /**
+     * Indexes a {@link CustomItem} by its slot without setting its {@link ItemStack}.
+     * This is used by {@link InventoryTemplate} whose items are already copied into the {@link Inventory}.
+     *
+     * @param customItem The {@link CustomItem} which should be indexed.
+     * @throws IllegalArgumentException if the slot of the {@link CustomItem} is outside the {@link Inventory}.
+     * @since 1.0.0
+     */
+    void bindItem(@NotNull final CustomItem customItem) {
+        if (customItem.slot < 0 || customItem.slot >= this.items.length) {
+            throw new IllegalArgumentException("slot " + customItem.slot + " is outside of the inventory");
+        }
+        this.items[customItem.slot] = customItem;
     }
 
     /**
      * This method is used to add a {@link CustomItem} to the {@link Inventory}.
-     * It also adds the {@link CustomItem} to the {@link CustomItemInventoryCache}.
+     * As the slot is chosen by the {@link Inventory}, the added {@link ItemStack} is tagged in its
+     * {@link org.bukkit.persistence.PersistentDataContainer} so a click on it can be dispatched to the {@link CustomItem}.
+     * The {@link ItemStack} of the {@link CustomItem} itself is not modified.
      * If you want to set a {@link CustomItem} in the {@link Inventory} use {@link #setItem(CustomItem)}.
      *
      * @param customItem The {@link CustomItem} which should be added.
-     * @see CustomItemInventoryCache
      * @see CustomItem
      * @since 1.0.0
      */
     public void addItem(@NotNull final CustomItem customItem) {
-        getInventory().addItem(customItem.itemStack);
-        CustomItemInventoryCache.getInstance().addCustomItem(this, customItem);
+        ItemStack itemStack = customItem.itemStack.clone();
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta != null) {
+            meta.getPersistentDataContainer().set(CUSTOM_ITEM_KEY, PersistentDataType.INTEGER, this.unslottedItems.size());
+            itemStack.setItemMeta(meta);
+        }
+        this.unslottedItems.add(customItem);
+        getInventory().addItem(itemStack);
+    }
+
+    /**
+     * Finds the {@link CustomItem} that was clicked.
+     *
+     * <p>Items set in a slot are looked up by the slot, items added without a slot by their tag. The meta of the
+     * clicked item is only read if the slot holds no {@link CustomItem} and items without a slot exist.</p>
+     *
+     * @param slot        The clicked slot.
+     * @param clickedItem The clicked {@link ItemStack}.
+     * @return The clicked {@link CustomItem}, or {@code null} if the clicked item is no {@link CustomItem}.
+     * @since 1.0.0
+     */
+    @Nullable
+    CustomItem findItem(final int slot, @NotNull final ItemStack clickedItem) {
+        if (slot >= 0 && slot < this.items.length) {
+            CustomItem customItem = this.items[slot];
+            // the type check keeps items moved out of their slot in inventories that are not canceled from matching
+            if (customItem != null && customItem.itemStack.getType() == clickedItem.getType()) {
+                return customItem;
+            }
+        }
+        if (this.unslottedItems.isEmpty() || !clickedItem.hasItemMeta()) {
+            return null;
+        }
+        Integer index = clickedItem.getItemMeta().getPersistentDataContainer().get(CUSTOM_ITEM_KEY, PersistentDataType.INTEGER);
+        if (index == null || index < 0 || index >= this.unslottedItems.size()) {
+            return null;
+        }
+        return this.unslottedItems.get(index);
+    }
+
+    /**
+     * Holds the filler {@link ItemStack}, built on first use.
+     */
+    private static final class Filler {
+
+        private static final ItemStack ITEM = new ItemBuilder(Material.BLACK_STAINED_GLASS_PANE).setName(" ").build();
     }
 }
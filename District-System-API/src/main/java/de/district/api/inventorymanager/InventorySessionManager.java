@@ -0,0 +1,224 @@
+package de.district.api.inventorymanager;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * This class owns the open {@link InventoryManager}s, one session per player.
+ * The sessions are keyed by the {@link UUID} of the player, so no {@link Player} is kept alive by an open menu.
+ * As each {@link InventoryManager} holds its own {@link CustomItem}s, closing a session also releases its items.
+ *
+ * <p>A session ends when its inventory is closed, or when the player quits or is kicked. Sessions whose player is
+ * offline or no longer looks at the inventory of the session are leaked and are removed by {@link #purgeLeakedSessions()}.</p>
+ *
+ * <p>All methods are thread-safe. The counters can be read at any time for monitoring.</p>
+ *
+ * @author Erik Pförtner
+ * @version 1.0.0
+ * @see InventoryManager
+ * @see InventoryListener
+ */
+public class InventorySessionManager {
+
+    private final ConcurrentHashMap<UUID, InventoryManager> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong openedSessions = new AtomicLong();
+    private final AtomicLong closedSessions = new AtomicLong();
+    private final AtomicLong leakedSessions = new AtomicLong();
+    private final Logger logger;
+
+    /**
+     * Creates a new {@link InventorySessionManager}.
+     *
+     * @param logger The logger that leaked sessions are reported to.
+     * @since 1.0.0
+     */
+    public InventorySessionManager(@NotNull final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the Optional containing the {@link InventoryManager} the given player has open.
+     *
+     * @param uuid The UUID of the player.
+     * @return Optional containing the {@link InventoryManager} of the player.
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<InventoryManager> getSession(@NotNull final UUID uuid) {
+        return Optional.ofNullable(this.sessions.get(uuid));
+    }
+
+    /**
+     * Returns the Optional containing the {@link InventoryManager} the given player has open.
+     *
+     * @param player The player.
+     * @return Optional containing the {@link InventoryManager} of the player.
+     * @since 1.0.0
+     */
+    @NotNull
+    public Optional<InventoryManager> getSession(@NotNull final Player player) {
+        return getSession(player.getUniqueId());
+    }
+
+    /**
+     * Checks if the given player has an open {@link InventoryManager}.
+     *
+     * @param uuid The UUID of the player.
+     * @return true if the player has an open {@link InventoryManager}, false if not.
+     * @since 1.0.0
+     */
+    public boolean hasSession(@NotNull final UUID uuid) {
+        return this.sessions.containsKey(uuid);
+    }
+
+    /**
+     * Opens a session for the player of the given {@link InventoryManager}.
+     * A session the player already has is replaced and counted as closed.
+     *
+     * @param inventoryManager The {@link InventoryManager} the player opens.
+     * @since 1.0.0
+     */
+    void open(@NotNull final InventoryManager inventoryManager) {
+        InventoryManager previous = this.sessions.put(inventoryManager.getUUID(), inventoryManager);
+        this.openedSessions.incrementAndGet();
+        if (previous != null && previous != inventoryManager) {
+            this.closedSessions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Closes the session of the given player if the given inventory belongs to it.
+     * Closing an inventory that was already replaced by a newer session has no effect.
+     *
+     * @param uuid      The UUID of the player.
+     * @param inventory The inventory that was closed.
+     * @return true if a session was closed, false if not.
+     * @since 1.0.0
+     */
+    public boolean close(@NotNull final UUID uuid, @NotNull final Inventory inventory) {
+        InventoryManager inventoryManager = this.sessions.get(uuid);
+        if (inventoryManager == null || !inventoryManager.getInventory().equals(inventory)) {
+            return false;
+        }
+        return closeSession(uuid, inventoryManager);
+    }
+
+    /**
+     * Closes the session of the given player, whatever inventory it belongs to.
+     *
+     * @param uuid The UUID of the player.
+     * @return true if a session was closed, false if not.
+     * @since 1.0.0
+     */
+    public boolean close(@NotNull final UUID uuid) {
+        InventoryManager inventoryManager = this.sessions.get(uuid);
+        return inventoryManager != null && closeSession(uuid, inventoryManager);
+    }
+
+    /**
+     * Closes all sessions and the inventories of the players that still look at them.
+     * This method must be called on the main thread.
+     *
+     * @since 1.0.0
+     */
+    public void closeAll() {
+        Iterator<Map.Entry<UUID, InventoryManager>> iterator = this.sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, InventoryManager> entry = iterator.next();
+            iterator.remove();
+            this.closedSessions.incrementAndGet();
+
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null && isViewing(player, entry.getValue())) {
+                player.closeInventory();
+            }
+        }
+    }
+
+    /**
+     * Removes all sessions whose player is offline or no longer looks at the inventory of the session.
+     * Such sessions are left behind if a close, quit or kick event was missed. This method must be called on the main thread.
+     *
+     * @return The number of removed sessions.
+     * @since 1.0.0
+     */
+    public int purgeLeakedSessions() {
+        int purged = 0;
+        for (Map.Entry<UUID, InventoryManager> entry : this.sessions.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null && isViewing(player, entry.getValue())) {
+                continue;
+            }
+            if (this.sessions.remove(entry.getKey(), entry.getValue())) {
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            this.leakedSessions.addAndGet(purged);
+            this.logger.warning(String.format("Removed %d leaked inventory sessions.", purged));
+        }
+        return purged;
+    }
+
+    /**
+     * Returns the number of currently open sessions.
+     *
+     * @return The number of currently open sessions.
+     * @since 1.0.0
+     */
+    public int getSessionCount() {
+        return this.sessions.size();
+    }
+
+    /**
+     * Returns the number of sessions opened since the InventoryManager API was registered.
+     *
+     * @return The number of opened sessions.
+     * @since 1.0.0
+     */
+    public long getOpenedCount() {
+        return this.openedSessions.get();
+    }
+
+    /**
+     * Returns the number of sessions closed regularly since the InventoryManager API was registered.
+     *
+     * @return The number of closed sessions.
+     * @since 1.0.0
+     */
+    public long getClosedCount() {
+        return this.closedSessions.get();
+    }
+
+    /**
+     * Returns the number of leaked sessions removed since the InventoryManager API was registered.
+     *
+     * @return The number of leaked sessions.
+     * @since 1.0.0
+     */
+    public long getLeakedCount() {
+        return this.leakedSessions.get();
+    }
+
+    private boolean closeSession(@NotNull final UUID uuid, @NotNull final InventoryManager inventoryManager) {
+        if (!this.sessions.remove(uuid, inventoryManager)) {
+            return false;
+        }
+        this.closedSessions.incrementAndGet();
+        return true;
+    }
+
+    private static boolean isViewing(@NotNull final Player player, @NotNull final InventoryManager inventoryManager) {
+        return player.getOpenInventory().getTopInventory().equals(inventoryManager.getInventory());
+    }
+}
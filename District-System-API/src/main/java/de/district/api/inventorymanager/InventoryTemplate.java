@@ -0,0 +1,279 @@
+package de.district.api.inventorymanager;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This class describes the layout of a menu that is built once and opened many times.
+ * The filler and all static items are compiled into an {@link ItemStack} array when the template is built,
+ * which is copied into the inventory of every opened {@link InventoryManager}.
+ * Only the dynamic slots are evaluated per player.
+ *
+ * <p>A template is immutable and may be kept in a static field. As the static {@link CustomItem}s are shared by all
+ * players, their {@link CustomItem#onClick} must take the player from the event.</p>
+ *
+ * Usage:
+ * <code>
+ * InventoryTemplate template = InventoryTemplate.builder(27, Component.text("Menu")).fill().item(customItem).build();
+ * template.open(player);
+ * </code>
+ *
+ * @author Erik Pförtner
+ * @version 1.0.0
+ * @see InventoryManager
+ */
+public final class InventoryTemplate {
+
+    private final int size;
+    private final Component name;
+    private final boolean canceled;
+    private final ItemStack[] contents;
+    private final CustomItem[] staticItems;
+    private final DynamicSlot[] dynamicSlots;
+
+    private InventoryTemplate(@NotNull final Builder builder) {
+        this.size = builder.size;
+        this.name = builder.name;
+        this.canceled = builder.canceled;
+        this.contents = new ItemStack[builder.size];
+        if (builder.filler != null) {
+            Arrays.fill(this.contents, builder.filler);
+        }
+        for (int slot = 0; slot < builder.size; slot++) {
+            if (builder.items[slot] != null) {
+                this.contents[slot] = builder.items[slot].clone();
+            }
+        }
+        for (CustomItem customItem : builder.staticItems) {
+            this.contents[customItem.slot] = customItem.itemStack.clone();
+        }
+        for (DynamicSlot dynamicSlot : builder.dynamicSlots) {
+            this.contents[dynamicSlot.slot] = null;
+        }
+        this.staticItems = builder.staticItems.toArray(CustomItem[]::new);
+        this.dynamicSlots = builder.dynamicSlots.toArray(DynamicSlot[]::new);
+    }
+
+    /**
+     * Creates a new {@link Builder} for a template.
+     *
+     * @param size The size of the inventory.
+     * @param name The name of the inventory.
+     * @return The new {@link Builder}.
+     * @since 1.0.0
+     */
+    @NotNull
+    public static Builder builder(final int size, @NotNull final Component name) {
+        return new Builder(size, name);
+    }
+
+    /**
+     * Opens a new inventory built from this template for the given player.
+     * The compiled items are copied into the inventory, only the dynamic slots are evaluated for the player.
+     *
+     * @param player The player who should get the inventory.
+     * @return The {@link InventoryManager} of the opened inventory.
+     * @throws IllegalStateException if a dynamic slot returns a {@link CustomItem} for another slot.
+     * @since 1.0.0
+     */
+    @NotNull
+    public InventoryManager open(@NotNull final Player player) {
+        InventoryManager inventoryManager = new InventoryManager(player, this.size, this.name, this.canceled, false);
+        // Bukkit copies every item when it is set, so the contents of the template are never shared.
+        inventoryManager.getInventory().setContents(this.contents);
+        for (CustomItem customItem : this.staticItems) {
+            inventoryManager.bindItem(customItem);
+        }
+        for (DynamicSlot dynamicSlot : this.dynamicSlots) {
+            CustomItem customItem = dynamicSlot.factory.apply(player);
+            if (customItem.slot != dynamicSlot.slot) {
+                throw new IllegalStateException("dynamic slot " + dynamicSlot.slot + " returned an item for slot " + customItem.slot);
+            }
+            inventoryManager.setItem(customItem);
+        }
+        return inventoryManager;
+    }
+
+    /**
+     * Returns the size of the inventory.
+     *
+     * @return The size of the inventory.
+     * @since 1.0.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the name of the inventory.
+     *
+     * @return The name of the inventory.
+     * @since 1.0.0
+     */
+    @NotNull
+    public Component getName() {
+        return name;
+    }
+
+    /**
+     * Returns a copy of the compiled item in the given slot.
+     *
+     * @param slot The slot.
+     * @return A copy of the item, or {@code null} if the slot is empty or dynamic.
+     * @since 1.0.0
+     */
+    public ItemStack getItem(final int slot) {
+        ItemStack itemStack = this.contents[slot];
+        return itemStack == null ? null : itemStack.clone();
+    }
+
+    private record DynamicSlot(int slot, @NotNull Function<Player, CustomItem> factory) {
+    }
+
+    /**
+     * This class is used to describe an {@link InventoryTemplate}.
+     * All items are copied when the template is built, so they may be modified afterwards.
+     *
+     * @author Erik Pförtner
+     * @version 1.0.0
+     * @see InventoryTemplate
+     */
+    public static final class Builder {
+
+        private final int size;
+        private final Component name;
+        private final ItemStack[] items;
+        private final List<CustomItem> staticItems = new ArrayList<>();
+        private final List<DynamicSlot> dynamicSlots = new ArrayList<>();
+        private ItemStack filler;
+        private boolean canceled = true;
+
+        private Builder(final int size, @NotNull final Component name) {
+            this.size = size;
+            this.name = name;
+            this.items = new ItemStack[size];
+        }
+
+        /**
+         * Fills all slots without an item with Black Stained Glass.
+         *
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder fill() {
+            return fill(InventoryManager.filler());
+        }
+
+        /**
+         * Fills all slots without an item with the given item.
+         *
+         * @param filler The item the slots should be filled with.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder fill(@NotNull final ItemStack filler) {
+            this.filler = filler.clone();
+            return this;
+        }
+
+        /**
+         * Sets whether clicks in the inventory should be canceled, which is the default.
+         *
+         * @param canceled If the inventory should be canceled.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder canceled(final boolean canceled) {
+            this.canceled = canceled;
+            return this;
+        }
+
+        /**
+         * Sets an item without a click action in the given slot.
+         *
+         * @param slot      The slot.
+         * @param itemStack The item.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder item(final int slot, @NotNull final ItemStack itemStack) {
+            this.items[checkSlot(slot)] = itemStack;
+            return this;
+        }
+
+        /**
+         * Sets the same item without a click action in all given slots.
+         *
+         * @param itemStack The item.
+         * @param slots     The slots.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder item(@NotNull final ItemStack itemStack, final int... slots) {
+            for (int slot : slots) {
+                item(slot, itemStack);
+            }
+            return this;
+        }
+
+        /**
+         * Sets a {@link CustomItem} that is the same for every player.
+         * It is shared by all opened inventories, so its click action must take the player from the event.
+         *
+         * @param customItem The {@link CustomItem}.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder item(@NotNull final CustomItem customItem) {
+            checkSlot(customItem.slot);
+            this.staticItems.add(customItem);
+            return this;
+        }
+
+        /**
+         * Sets a slot that is evaluated for every player when the template is opened.
+         * The factory must return a {@link CustomItem} for the given slot.
+         *
+         * @param slot    The slot.
+         * @param factory The factory creating the {@link CustomItem} for a player.
+         * @return This builder.
+         * @since 1.0.0
+         */
+        @NotNull
+        public Builder dynamic(final int slot, @NotNull final Function<Player, CustomItem> factory) {
+            this.dynamicSlots.add(new DynamicSlot(checkSlot(slot), factory));
+            return this;
+        }
+
+        /**
+         * Compiles the template.
+         *
+         * @return The new {@link InventoryTemplate}.
+         * @since 1.0.0
+         */
+        @NotNull
+        public InventoryTemplate build() {
+            return new InventoryTemplate(this);
+        }
+
+        private int checkSlot(final int slot) {
+            if (slot < 0 || slot >= this.size) {
+                throw new IllegalArgumentException("slot " + slot + " is outside of the inventory");
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package de.district.api.inventorymanager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This interface is used to load the entries of a {@link PagedInventory} page by page.
+ * Pages are addressed by a keyset cursor instead of an offset, usually the sort key of the last entry of the
+ * previous page, so loading a page costs the same no matter how far the player has browsed.
+ *
+ * <p>{@link #fetch(Object, int)} is called asynchronously and must not access the Bukkit API.</p>
+ *
+ * @param <T> The type of the entries.
+ * @param <C> The type of the cursor.
+ * @author Erik Pförtner
+ * @version 1.0.0
+ * @see PagedInventory
+ * @see PagedResult
+ */
+@FunctionalInterface
+public interface PagedDataSource<T, C> {
+
+    /**
+     * Loads the entries that follow the given cursor.
+     *
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  The maximum amount of entries to return.
+     * @return The loaded entries and the cursor of the next page.
+     * @since 1.0.0
+     */
+    @NotNull
+    PagedResult<T, C> fetch(@Nullable C cursor, int limit);
+}
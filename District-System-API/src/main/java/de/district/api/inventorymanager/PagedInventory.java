@@ -0,0 +1,224 @@
+package de.district.api.inventorymanager;
+
+import de.district.api.util.ItemBuilder;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * This class displays the entries of a {@link PagedDataSource} in a paged inventory on top of an {@link InventoryManager}.
+ * The first five rows show the entries of the current page, the last row holds the navigation.
+ *
+ * <p>Only the current page is held in memory. Pages are loaded asynchronously through their keyset cursor, and the
+ * next page is prefetched as soon as a page is shown, so turning forward usually renders without waiting. The
+ * cursors of visited pages are remembered to turn back. Turning a page reuses the open inventory and only
+ * rewrites the entry slots and the navigation.</p>
+ *
+ * Usage:
+ * <code>
+ * new PagedInventory&lt;&gt;(plugin, player, Component.text("List"), dataSource, entry -&gt; new ItemStack(Material.PAPER), null).open();
+ * </code>
+ *
+ * @param <T> The type of the entries.
+ * @param <C> The type of the cursor.
+ * @author Erik Pförtner
+ * @version 1.0.0
+ * @see PagedDataSource
+ * @see InventoryManager
+ */
+public class PagedInventory<T, C> {
+
+    /**
+     * The amount of entries displayed on a single page.
+     */
+    public static final int PAGE_SIZE = 45;
+    private static final int INVENTORY_SIZE = 54;
+    private static final int PREVIOUS_PAGE_SLOT = 45;
+    private static final int PAGE_INFO_SLOT = 49;
+    private static final int NEXT_PAGE_SLOT = 53;
+
+    private final Plugin plugin;
+    private final UUID viewer;
+    private final Component name;
+    private final PagedDataSource<T, C> dataSource;
+    private final Function<T, ItemStack> renderer;
+    private final BiConsumer<T, InventoryClickEvent> clickHandler;
+    private final Executor asyncExecutor;
+    private final Executor mainThreadExecutor;
+    private final List<C> cursors = new ArrayList<>();
+    private final CustomItem previousPageItem;
+    private final CustomItem nextPageItem;
+
+    private InventoryManager inventory;
+    private CompletableFuture<PagedResult<T, C>> prefetch;
+    private int page;
+    private boolean loading;
+
+    /**
+     * Creates a new paged inventory. It is shown once {@link #open()} is called.
+     *
+     * @param plugin       The plugin the pages are loaded for.
+     * @param viewer       The player who views the inventory.
+     * @param name         The name of the inventory.
+     * @param dataSource   The {@link PagedDataSource} the entries are loaded from.
+     * @param renderer     The function that creates the {@link ItemStack} of an entry, called on the main thread.
+     * @param clickHandler The action performed when an entry is clicked, or {@code null} if entries are not clickable.
+     * @since 1.0.0
+     */
+    public PagedInventory(@NotNull final Plugin plugin, @NotNull final Player viewer, @NotNull final Component name,
+                          @NotNull final PagedDataSource<T, C> dataSource, @NotNull final Function<T, ItemStack> renderer,
+                          @Nullable final BiConsumer<T, InventoryClickEvent> clickHandler) {
+        this.plugin = plugin;
+        this.viewer = viewer.getUniqueId();
+        this.name = name;
+        this.dataSource = dataSource;
+        this.renderer = renderer;
+        this.clickHandler = clickHandler;
+        this.asyncExecutor = runnable -> Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable);
+        this.mainThreadExecutor = runnable -> {
+            if (Bukkit.isPrimaryThread()) {
+                runnable.run();
+            } else {
+                Bukkit.getScheduler().runTask(plugin, runnable);
+            }
+        };
+        this.cursors.add(null);
+        this.previousPageItem = new CustomItem(PREVIOUS_PAGE_SLOT, new ItemBuilder(Material.ARROW).setName("§8» §7Vorherige Seite").build()) {
+            @Override
+            public void onClick(final InventoryClickEvent event) {
+                load(page - 1);
+            }
+        };
+        this.nextPageItem = new CustomItem(NEXT_PAGE_SLOT, new ItemBuilder(Material.ARROW).setName("§8» §7Nächste Seite").build()) {
+            @Override
+            public void onClick(final InventoryClickEvent event) {
+                load(page + 1);
+            }
+        };
+    }
+
+    /**
+     * Loads the first page asynchronously and opens it for the viewer.
+     *
+     * @since 1.0.0
+     */
+    public void open() {
+        load(0);
+    }
+
+    /**
+     * Returns the zero-based index of the page that is currently shown.
+     *
+     * @return The index of the current page.
+     * @since 1.0.0
+     */
+    public int getPage() {
+        return page;
+    }
+
+    private void load(final int page) {
+        if (this.loading || page < 0 || page >= this.cursors.size()) {
+            return;
+        }
+        this.loading = true;
+
+        CompletableFuture<PagedResult<T, C>> future = this.prefetch != null && page == this.page + 1
+                ? this.prefetch
+                : fetch(this.cursors.get(page));
+        this.prefetch = null;
+
+        // a prefetched page is usually complete already and is rendered right away
+        future.whenCompleteAsync((result, throwable) -> {
+            this.loading = false;
+            if (throwable != null) {
+                this.plugin.getLogger().log(Level.SEVERE, "Could not load page " + page + " of a paged inventory.", throwable);
+                return;
+            }
+            show(page, result);
+        }, this.mainThreadExecutor);
+    }
+
+    @NotNull
+    private CompletableFuture<PagedResult<T, C>> fetch(@Nullable final C cursor) {
+        return CompletableFuture.supplyAsync(() -> this.dataSource.fetch(cursor, PAGE_SIZE), this.asyncExecutor);
+    }
+
+    private void show(final int page, @NotNull final PagedResult<T, C> result) {
+        Player player = Bukkit.getPlayer(this.viewer);
+        if (player == null) {
+            return;
+        }
+        if (this.inventory == null) {
+            this.inventory = new InventoryManager(player, INVENTORY_SIZE, this.name, true);
+        } else if (InventoryApiRegister.getSessionManager().getSession(this.viewer).orElse(null) != this.inventory) {
+            // the viewer closed the inventory while the page was loading
+            return;
+        }
+
+        this.page = page;
+        if (result.hasNext()) {
+            if (page + 1 < this.cursors.size()) {
+                this.cursors.set(page + 1, result.nextCursor());
+            } else {
+                this.cursors.add(result.nextCursor());
+            }
+        }
+
+        List<T> items = result.items();
+        for (int slot = 0; slot < PAGE_SIZE; slot++) {
+            if (slot < items.size()) {
+                renderEntry(slot, items.get(slot));
+            } else {
+                this.inventory.removeItem(slot);
+                this.inventory.getInventory().setItem(slot, InventoryManager.filler());
+            }
+        }
+
+        this.inventory.getInventory().setItem(PAGE_INFO_SLOT, new ItemBuilder(Material.BOOK).setName("§8» §7Seite §6" + (page + 1)).build());
+        renderNavigation(this.previousPageItem, page > 0);
+        renderNavigation(this.nextPageItem, result.hasNext());
+
+        if (result.hasNext()) {
+            this.prefetch = fetch(result.nextCursor());
+        }
+    }
+
+    private void renderEntry(final int slot, @NotNull final T entry) {
+        ItemStack itemStack = this.renderer.apply(entry);
+        if (this.clickHandler == null) {
+            this.inventory.removeItem(slot);
+            this.inventory.getInventory().setItem(slot, itemStack);
+            return;
+        }
+        this.inventory.setItem(new CustomItem(slot, itemStack) {
+            @Override
+            public void onClick(final InventoryClickEvent event) {
+                clickHandler.accept(entry, event);
+            }
+        });
+    }
+
+    private void renderNavigation(@NotNull final CustomItem customItem, final boolean visible) {
+        if (visible) {
+            this.inventory.setItem(customItem);
+        } else {
+            this.inventory.removeItem(customItem.slot);
+            this.inventory.getInventory().setItem(customItem.slot, InventoryManager.filler());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package de.district.api.inventorymanager;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This record holds a single page loaded by a {@link PagedDataSource}.
+ *
+ * @param items      The entries of the page.
+ * @param nextCursor The cursor of the next page, or {@code null} if this is the last page.
+ * @param <T>        The type of the entries.
+ * @param <C>        The type of the cursor.
+ * @author Erik Pförtner
+ * @version 1.0.0
+ * @see PagedDataSource
+ */
+public record PagedResult<T, C>(@NotNull List<T> items, @Nullable C nextCursor) {
+
+    /**
+     * Creates a page from entries that were loaded with a limit of one more than the page size.
+     * The additional entry only signals that a next page exists and is dropped.
+     *
+     * @param items    The loaded entries, at most {@code limit + 1}.
+     * @param limit    The size of the page.
+     * @param cursorOf The function that returns the cursor of an entry.
+     * @param <T>      The type of the entries.
+     * @param <C>      The type of the cursor.
+     * @return The page.
+     * @since 1.0.0
+     */
+    @NotNull
+    public static <T, C> PagedResult<T, C> of(@NotNull final List<T> items, final int limit, @NotNull final Function<T, C> cursorOf) {
+        if (items.size() <= limit) {
+            return new PagedResult<>(items, null);
+        }
+        List<T> page = items.subList(0, limit);
+        return new PagedResult<>(page, cursorOf.apply(page.get(limit - 1)));
+    }
+
+    /**
+     * Returns if a next page exists.
+     *
+     * @return true if a next page exists, false if not.
+     * @since 1.0.0
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -10,6 +10,9 @@ import org.jetbrains.annotations.NotNull;
  * <p>Implementations of this interface are used to manage and interact with locations in the
  * game environment, such as defining specific areas or points of interest within a world.</p>
  *
+ * <p>The distance and bounding box checks of this interface work on raw coordinates and do not allocate, so they
+ * can be used in frequently called listeners. Distances are compared squared to avoid the square root.</p>
+ *
  * @author Erik Pförtner
  * @see LocationType
  * @since 1.0.0
@@ -68,6 +71,74 @@ public interface Location {
     @NotNull
     LocationType getType();
 
+    /**
+     * Calculates the squared distance between this location and the specified position.
+     *
+     * @param x the x-coordinate of the position.
+     * @param y the y-coordinate of the position.
+     * @param z the z-coordinate of the position.
+     * @return the squared distance to the position.
+     */
+    default double distanceSquared(final double x, final double y, final double z) {
+        double dx = getX() - x;
+        double dy = getY() - y;
+        double dz = getZ() - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Checks whether the specified position lies within the specified radius around this location. The world is
+     * not taken into account.
+     *
+     * @param x      the x-coordinate of the position.
+     * @param y      the y-coordinate of the position.
+     * @param z      the z-coordinate of the position.
+     * @param radius the radius around this location.
+     * @return {@code true} if the position lies within the radius, {@code false} otherwise.
+     */
+    default boolean isWithin(final double x, final double y, final double z, final double radius) {
+        return radius >= 0 && distanceSquared(x, y, z) <= radius * radius;
+    }
+
+    /**
+     * Checks whether the specified Bukkit location is in the world of this location and lies within the specified
+     * radius around this location.
+     *
+     * @param position the Bukkit location to check.
+     * @param radius   the radius around this location.
+     * @return {@code true} if the Bukkit location lies within the radius, {@code false} otherwise.
+     */
+    default boolean isWithin(@NotNull final org.bukkit.Location position, final double radius) {
+        org.bukkit.World world = position.getWorld();
+        return world != null
+                && getWorld().equals(world.getName())
+                && isWithin(position.getX(), position.getY(), position.getZ(), radius);
+    }
+
+    /**
+     * Checks whether this location lies within the specified axis-aligned bounding box. The world is not taken
+     * into account.
+     *
+     * @param minX the inclusive minimum x-coordinate of the box.
+     * @param minY the inclusive minimum y-coordinate of the box.
+     * @param minZ the inclusive minimum z-coordinate of the box.
+     * @param maxX the inclusive maximum x-coordinate of the box.
+     * @param maxY the inclusive maximum y-coordinate of the box.
+     * @param maxZ the inclusive maximum z-coordinate of the box.
+     * @return {@code true} if this location lies within the box, {@code false} otherwise.
+     */
+    default boolean isWithinBox(final double minX,
+                                final double minY,
+                                final double minZ,
+                                final double maxX,
+                                final double maxY,
+                                final double maxZ) {
+        double x = getX();
+        double y = getY();
+        double z = getZ();
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
     /**
      * Converts this location to a Bukkit location.
      *
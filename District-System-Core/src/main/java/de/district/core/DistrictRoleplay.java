@@ -12,12 +12,15 @@ import de.district.api.entity.Console;
 import de.district.api.entity.PluginOfflinePlayer;
 import de.district.api.entity.PluginPlayer;
 import de.district.api.fail.exception.DistrictRoleplayException;
+import de.district.api.inventorymanager.InventoryApiRegister;
 import de.district.core.collectors.CoreSystemCollector;
 import de.district.core.config.PluginConfiguration;
+import de.district.core.economy.location.atm.interaction.AtmInteraction;
 import de.district.core.economy.config.BankConfiguration;
 import de.district.core.entity.CoreConsole;
 import de.district.core.entity.CorePluginOfflinePlayer;
 import de.district.core.entity.CorePluginPlayer;
+import de.district.core.entity.PlayerSessionRegistry;
 import de.district.core.location.InteractionHolder;
 import de.district.core.util.ConvertingUtils;
 import de.splatgames.aether.permissions.api.PermissionManager;
@@ -32,7 +35,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,14 +66,6 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
      * The prefix used for all plugin messages in the chat.
      */
     public static final String PREFIX = "§7District§4-§cRoleplay §8| §7";
-    /**
-     * The map used to store player flags.
-     * <p>
-     * This field is used to store player flags that control the behavior of the plugin for individual players.
-     * The player flags are used to enable or disable certain functionalities for specific players based on their actions or permissions.
-     * </p>
-     */
-    private static final Map<UUID, Integer> playerFlags = new ConcurrentHashMap<>();
     /**
      * The {@link InteractionHolder} instance used to manage and store all interactions between players and locations.
      * <p>
@@ -93,6 +87,17 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
      * @see SystemCollector
      */
     private SystemCollector systemCollector;
+    /**
+     * The {@link PlayerSessionRegistry} instance holding the {@link CorePluginPlayer} of every online player.
+     * <p>
+     * This field is initialized during the plugin's startup and is used to resolve {@link PluginPlayer} instances
+     * without allocating a new instance on every call. It also stores the player flags that control the behavior
+     * of the plugin for individual players.
+     * </p>
+     *
+     * @see PlayerSessionRegistry
+     */
+    private static PlayerSessionRegistry sessionRegistry;
     /**
      * The {@link Console} instance representing the server console.
      * <p>
@@ -143,13 +148,16 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
     }
 
     /**
-     * Sets the flags for the specified player.
+     * Sets the flags for the specified player. The flags are stored in the player's session and are discarded
+     * if the player is not online.
      *
      * @param player the {@link PluginOfflinePlayer} object for which to set the flags.
      * @param flags  the flags to set for the specified player.
      */
     public static void setPlayerFlags(@NotNull final PluginOfflinePlayer player, final int flags) {
-        playerFlags.put(player.getBukkitOfflinePlayer().getUniqueId(), flags);
+        if (sessionRegistry != null) {
+            sessionRegistry.setFlags(player.getBukkitOfflinePlayer().getUniqueId(), flags);
+        }
     }
 
     /**
@@ -179,7 +187,10 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
             getLogger().warning("Failed to load bank configuration. Default bank provider will be set to 'Bank of District'.");
             this.defaultBankProvider = "Bank of District";
         }
-        DistrictRoleplay.interactionHolder = new InteractionHolder(new ArrayList<>());
+        DistrictRoleplay.interactionHolder = new InteractionHolder();
+        DistrictRoleplay.interactionHolder.addInteraction(new AtmInteraction());
+        DistrictRoleplay.sessionRegistry = getBean(PlayerSessionRegistry.class);
+        InventoryApiRegister.register(this);
         getLogger().info("District-Roleplay Systems has been started successfully.");
     }
 
@@ -190,7 +201,7 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
     private void onUnitTestEnable() {
         getLogger().info("District-Roleplay Systems is starting up in UNIT_TEST mode...");
         this.systemCollector = new CoreSystemCollector().update();
-        DistrictRoleplay.interactionHolder = new InteractionHolder(new ArrayList<>());
+        DistrictRoleplay.interactionHolder = new InteractionHolder();
         getLogger().info("District-Roleplay Systems has been started successfully in UNIT_TEST mode.");
     }
 
@@ -207,8 +218,15 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
         }
 
         getLogger().info("District-Roleplay Systems is shutting down...");
+        if (InventoryApiRegister.isRegistered()) {
+            InventoryApiRegister.unregister();
+        }
         super.onDisable();
         DistrictRoleplay.interactionHolder.clearInteractions();
+        if (DistrictRoleplay.sessionRegistry != null) {
+            DistrictRoleplay.sessionRegistry.clear();
+            DistrictRoleplay.sessionRegistry = null;
+        }
         getLogger().info("District-Roleplay Systems has been shut down successfully.");
     }
 
@@ -326,27 +344,48 @@ public class DistrictRoleplay extends SpringlifyBukkitPlugin implements Server {
     /**
      * Retrieves the {@link PluginPlayer} instance associated with the specified player.
      *
-     * <p>This method returns the {@link PluginPlayer} instance that corresponds to the
-     * given {@link Player} object, allowing the server to access and manage player-specific
-     * data and functionality. If the player is not found or does not have an associated
-     * {@link PluginPlayer} instance, the method returns {@code null}.</p>
+     * <p>This method returns the {@link PluginPlayer} session of the given {@link Player} from the
+     * {@link PlayerSessionRegistry}, so the same instance is returned for the whole time the player is online.
+     * If the registry is not available (e.g. in a unit test environment), a new instance is created.</p>
      *
      * @param player the {@link Player} object for which to retrieve the {@link PluginPlayer}.
-     * @return the {@link PluginPlayer} instance associated with the player, or {@code null} if not found.
+     * @return the {@link PluginPlayer} instance associated with the player.
      */
     @Override
     public @Nullable PluginPlayer getPluginPlayer(final @NotNull Player player) {
-        return new CorePluginPlayer(player);
+        if (sessionRegistry == null) {
+            return new CorePluginPlayer(player);
+        }
+        return sessionRegistry.getOrOpen(player);
     }
 
+    /**
+     * Retrieves the {@link PluginPlayer} instance of the online player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the {@link PluginPlayer} instance of the player, or {@code null} if the player is not online.
+     */
     @Override
     public @Nullable PluginPlayer getPluginPlayer(final @NotNull UUID uuid) {
-        return null;
+        if (sessionRegistry == null) {
+            return null;
+        }
+        return sessionRegistry.get(uuid);
     }
 
+    /**
+     * Retrieves the {@link PluginPlayer} instance of the online player with the specified name.
+     * The comparison is case-insensitive.
+     *
+     * @param name the name of the player.
+     * @return the {@link PluginPlayer} instance of the player, or {@code null} if the player is not online.
+     */
     @Override
     public @Nullable PluginPlayer getPluginPlayer(final @NotNull String name) {
-        return null;
+        if (sessionRegistry == null) {
+            return null;
+        }
+        return sessionRegistry.get(name);
     }
 
     /**
@@ -1,7 +1,10 @@
 package de.district.core;
 
 import de.district.core.config.PluginConfiguration;
+import de.district.core.economy.config.AtmConfiguration;
 import de.district.core.economy.config.BankConfiguration;
+import de.district.core.location.config.LocationConfiguration;
+import de.district.core.user.config.UserConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
@@ -36,7 +39,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @SpringBootApplication
 @EnableConfigurationProperties({
         PluginConfiguration.class,
-        BankConfiguration.class
+        BankConfiguration.class,
+        AtmConfiguration.class,
+        UserConfiguration.class,
+        LocationConfiguration.class
 })
 public class DistrictRoleplayApplication {
 }
@@ -3,10 +3,10 @@ package de.district.core.admin;
 import de.district.api.DistrictAPI;
 import de.district.api.admin.PlayerTicket;
 import de.district.api.entity.PluginPlayer;
+import de.district.core.user.converter.UuidBinaryConverter;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectList;
 import jakarta.persistence.*;
-import org.bukkit.Bukkit;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -24,11 +24,14 @@ public class Ticket implements PlayerTicket {
     @Column(name = "id", nullable = false)
     private Long id;
 
-    @Column(name = "creator", nullable = false)
+    @Column(name = "creator", nullable = false, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     private final UUID creator;
 
     @ElementCollection
     @CollectionTable(name = "participants", joinColumns = @JoinColumn(name = "ticket_id"))
+    @Column(name = "participants", columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     private final ObjectList<UUID> participants;
 
     @Column(name = "reason", nullable = false)
@@ -38,18 +41,16 @@ public class Ticket implements PlayerTicket {
     private final LocalDateTime creationDate;
     @Override
     public PluginPlayer getCreator() {
-        if (Bukkit.getPlayer(creator) != null) {
-            return DistrictAPI.getPluginPlayer(Bukkit.getPlayer(creator));
-        }
-        return null;
+        return DistrictAPI.getPluginPlayer(creator);
     }
 
     @Override
     public ObjectList<PluginPlayer> getParticipants() {
         ObjectList<PluginPlayer> participants = new ObjectArrayList<>();
         for (UUID uuid : this.participants) {
-            if (Bukkit.getPlayer(uuid) != null) {
-                participants.add(DistrictAPI.getPluginPlayer(Bukkit.getPlayer(uuid)));
+            PluginPlayer participant = DistrictAPI.getPluginPlayer(uuid);
+            if (participant != null) {
+                participants.add(participant);
             }
         }
         return participants;
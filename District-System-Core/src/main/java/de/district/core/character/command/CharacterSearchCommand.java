@@ -0,0 +1,70 @@
+package de.district.core.character.command;
+
+import de.district.api.DistrictAPI;
+import de.district.api.command.PluginCommandExecutor;
+import de.district.api.command.PluginCommandSender;
+import de.district.api.command.PluginTabCompleter;
+import de.district.api.command.annotation.Required;
+import de.district.core.character.service.CharacterName;
+import de.district.core.character.service.CharacterNameDirectory;
+import de.district.core.character.service.CharacterService;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Searches characters by the beginning of their first, last or full name and completes character names.
+ *
+ * <p>Usage: {@code /charactersearch <Name>}</p>
+ *
+ * @author Erik Pförtner
+ * @see CharacterNameDirectory
+ * @since 1.0.0
+ */
+@Required(permissions = "district.character.search")
+public class CharacterSearchCommand implements PluginCommandExecutor, PluginTabCompleter {
+
+    /**
+     * The maximum amount of characters listed in the chat.
+     */
+    private static final int MAX_LISTED = 10;
+    /**
+     * The maximum amount of names suggested during tab completion.
+     */
+    private static final int MAX_SUGGESTIONS = 20;
+
+    @Override
+    public boolean onCommand(@NotNull PluginCommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length == 0) {
+            sender.sendMessage(Component.text("§cVerwendung: /" + label + " <Name>"));
+            return false;
+        }
+
+        CharacterService characterService = DistrictAPI.getBean(CharacterService.class);
+        List<CharacterName> characters = characterService.searchCharacters(String.join(" ", args), MAX_LISTED + 1);
+        if (characters.isEmpty()) {
+            sender.sendMessage(Component.text("§cEs wurde kein Charakter gefunden."));
+            return true;
+        }
+
+        sender.sendMessage(Component.text("§7Gefundene Charaktere:"));
+        for (CharacterName character : characters.subList(0, Math.min(characters.size(), MAX_LISTED))) {
+            String playerName = Bukkit.getOfflinePlayer(character.uuid()).getName();
+            sender.sendMessage(Component.text("§8- §e" + character.fullName() + " §8(§7" + (playerName == null ? "Unbekannt" : playerName) + "§8)"), false);
+        }
+        if (characters.size() > MAX_LISTED) {
+            sender.sendMessage(Component.text("§7Es gibt weitere Treffer, bitte präzisiere deine Suche."), false);
+        }
+        return true;
+    }
+
+    @Override
+    public @Nullable List<String> onTabComplete(@NotNull PluginCommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        String prefix = args.length == 0 ? "" : args[args.length - 1];
+        return DistrictAPI.getBean(CharacterNameDirectory.class).complete(prefix, MAX_SUGGESTIONS);
+    }
+}
@@ -3,18 +3,17 @@ package de.district.core.character.domain;
 import de.district.api.entity.PlayerCharacter;
 import de.district.core.character.domain.dto.CharacterDto;
 import de.district.core.character.util.Gender;
-import de.district.core.character.util.LocalDateTimeAttributeConverter;
 import de.district.core.user.domain.User;
 import de.splatgames.generators.annotation.dto.Dto;
 import de.splatgames.validations.valids.api.Validations;
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -50,8 +49,20 @@ import java.util.Objects;
 @Setter
 @ToString
 @Entity
-@Table(name = "characters")
+@Table(name = "characters", indexes = {
+        @Index(name = Character.DOB_INDEX, columnList = "dob"),
+        @Index(name = Character.CREATED_AT_INDEX, columnList = "created_at")
+})
 public class Character implements PlayerCharacter {
+    /**
+     * The name of the index on the date of birth, used by the age queries.
+     */
+    public static final String DOB_INDEX = "idx_characters_dob";
+    /**
+     * The name of the index on the creation timestamp, used by the creation range queries.
+     */
+    public static final String CREATED_AT_INDEX = "idx_characters_created_at";
+
     /**
      * The unique identifier for the character.
      * <p>
@@ -111,25 +122,23 @@ public class Character implements PlayerCharacter {
     /**
      * The date of birth of the character.
      * <p>
-     * This field is stored as a {@link LocalDateTime} object and uses a custom
-     * converter provided by {@link LocalDateTimeAttributeConverter}.
+     * This field is stored as a native {@code DATETIME} column, so it can be used
+     * in indexed range queries.
      * </p>
      */
     @Dto(order = 5)
     @Column(name = "dob", nullable = false)
-    @Convert(converter = LocalDateTimeAttributeConverter.class)
     private LocalDateTime dob;
 
     /**
      * The creation timestamp of the character.
      * <p>
-     * This field is automatically set when the character entity is created. It uses
-     * a custom converter for proper handling in the database.
+     * This field is automatically set when the character entity is created. It is
+     * stored as a native {@code DATETIME} column.
      * </p>
      */
     @Dto(order = 6)
     @Column(name = "created_at", nullable = false)
-    @Convert(converter = LocalDateTimeAttributeConverter.class)
     private LocalDateTime createdAt;
 
     /**
@@ -0,0 +1,42 @@
+package de.district.core.character.domain;
+
+import java.util.UUID;
+
+/**
+ * The {@code CharacterNameView} interface is a Spring Data projection of a {@link Character} that only contains
+ * its identifier, the UUID of its user and its name.
+ *
+ * @see de.district.core.character.repository.CharacterRepository#streamNames()
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+public interface CharacterNameView {
+
+    /**
+     * Retrieves the identifier of the character.
+     *
+     * @return the identifier of the character.
+     */
+    Long getId();
+
+    /**
+     * Retrieves the UUID of the user of the character.
+     *
+     * @return the UUID of the user.
+     */
+    UUID getUuid();
+
+    /**
+     * Retrieves the first name of the character.
+     *
+     * @return the first name of the character.
+     */
+    String getFirstName();
+
+    /**
+     * Retrieves the last name of the character.
+     *
+     * @return the last name of the character.
+     */
+    String getLastName();
+}
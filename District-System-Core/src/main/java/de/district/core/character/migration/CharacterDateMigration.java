@@ -0,0 +1,60 @@
+package de.district.core.character.migration;
+
+import de.district.core.character.domain.Character;
+import de.district.core.migration.ColumnTypeMigration;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code CharacterDateMigration} class migrates the {@code characters.dob} and {@code characters.created_at}
+ * columns from their former ISO-8601 string representation to native {@code DATETIME(6)} columns, as mapped by the
+ * {@link Character} entity.
+ *
+ * <p>The migration runs on startup for columns that are still of a character type or whose previous migration was
+ * interrupted, see {@link ColumnTypeMigration}. Values that are not ISO-8601 date-times are not converted and abort
+ * the migration before the original column is dropped. Afterwards the index used by the range queries is created if
+ * it does not exist yet.</p>
+ *
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Component
+public class CharacterDateMigration implements ApplicationRunner {
+
+    /**
+     * The pattern a value must match to be converted, {@link java.time.LocalDateTime#toString()} separates date and
+     * time with 'T', which CAST does not accept and which is therefore replaced.
+     */
+    private static final String DATE_TIME_PATTERN = "'^[0-9]{4}-[0-9]{2}-[0-9]{2}[T ][0-9]{2}:[0-9]{2}(:[0-9]{2}(\\\\.[0-9]{1,9})?)?$'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ColumnTypeMigration columnTypeMigration;
+
+    public CharacterDateMigration(final JdbcTemplate jdbcTemplate, final ColumnTypeMigration columnTypeMigration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.columnTypeMigration = columnTypeMigration;
+    }
+
+    /**
+     * Checks the types of the date columns of the {@code characters} table and migrates them if necessary.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(@NotNull final ApplicationArguments args) {
+        migrate("dob", Character.DOB_INDEX);
+        migrate("created_at", Character.CREATED_AT_INDEX);
+    }
+
+    private void migrate(@NotNull final String column, @NotNull final String index) {
+        boolean migrated = this.columnTypeMigration.migrate("characters", column, column + "_ts", "DATETIME(6)",
+                "CASE WHEN " + column + " REGEXP " + DATE_TIME_PATTERN
+                        + " THEN CAST(REPLACE(" + column + ", 'T', ' ') AS DATETIME(6)) END");
+        if (migrated) {
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index + " ON characters (" + column + ")");
+        }
+    }
+}
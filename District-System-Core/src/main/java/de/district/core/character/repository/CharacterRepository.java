@@ -1,10 +1,22 @@
 package de.district.core.character.repository;
 
 import de.district.core.character.domain.Character;
+import de.district.core.character.domain.CharacterNameView;
 import de.district.core.user.domain.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * The {@code CharacterRepository} interface provides methods for interacting with the character repository.
@@ -30,4 +42,76 @@ public interface CharacterRepository extends CrudRepository<Character, Long> {
      * @return An optional containing the character if found, or an empty optional otherwise.
      */
     Optional<Character> findByUser(final User user);
+
+    /**
+     * Finds a character by the id of the associated user.
+     *
+     * @param userId The id of the user associated with the character.
+     * @return An optional containing the character if found, or an empty optional otherwise.
+     * @see de.district.core.user.service.UserIdResolver
+     */
+    Optional<Character> findByUserId(final long userId);
+
+    /**
+     * Finds a character by the UUID of the associated user. The user is fetched in the same query.
+     *
+     * @param uuid The UUID of the user associated with the character.
+     * @return An optional containing the character if found, or an empty optional otherwise.
+     */
+    @Query("SELECT c FROM Character c JOIN FETCH c.user u WHERE u.uuid = :uuid")
+    Optional<Character> findByUserUuid(@Param("uuid") final UUID uuid);
+
+    /**
+     * Finds all characters that have been created within the specified period, ordered as requested by the
+     * {@link Pageable}. The query is served by the index on the creation timestamp.
+     *
+     * @param from The inclusive start of the period.
+     * @param to The inclusive end of the period.
+     * @param pageable The page to retrieve.
+     * @return A slice containing the characters of the requested page.
+     */
+    Slice<Character> findByCreatedAtBetween(final LocalDateTime from, final LocalDateTime to, final Pageable pageable);
+
+    /**
+     * Counts all characters that have been created within the specified period.
+     *
+     * @param from The inclusive start of the period.
+     * @param to The inclusive end of the period.
+     * @return The amount of characters created within the period.
+     */
+    long countByCreatedAtBetween(final LocalDateTime from, final LocalDateTime to);
+
+    /**
+     * Finds all characters that have been born within the specified period. The query is served by the index
+     * on the date of birth.
+     *
+     * @param from The exclusive start of the period.
+     * @param to The inclusive end of the period.
+     * @param pageable The page to retrieve.
+     * @return A slice containing the characters of the requested page.
+     */
+    Slice<Character> findByDobAfterAndDobLessThanEqual(final LocalDateTime from, final LocalDateTime to, final Pageable pageable);
+
+    /**
+     * Finds all characters that have been born at or before the specified date. The query is served by the index
+     * on the date of birth.
+     *
+     * @param dob The latest date of birth.
+     * @param pageable The page to retrieve.
+     * @return A slice containing the characters of the requested page.
+     */
+    Slice<Character> findByDobLessThanEqual(final LocalDateTime dob, final Pageable pageable);
+
+    /**
+     * Streams the names of all characters.
+     *
+     * <p>The returned {@link Stream} is backed by an open database cursor, so it must be consumed inside a
+     * transaction and closed afterwards.</p>
+     *
+     * @return A stream of {@link CharacterNameView} projections of all characters.
+     * @see de.district.core.character.service.CharacterNameDirectory
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id AS id, u.uuid AS uuid, c.firstName AS firstName, c.lastName AS lastName FROM Character c JOIN c.user u")
+    Stream<CharacterNameView> streamNames();
 }
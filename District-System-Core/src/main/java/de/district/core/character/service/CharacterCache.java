@@ -0,0 +1,91 @@
+package de.district.core.character.service;
+
+import de.district.core.character.domain.Character;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * The {@code CharacterCache} class caches the {@link Character} entities of users by their user id.
+ *
+ * <p>Users without a character are cached as well (negative caching), so repeated lookups for players that have
+ * not created a character yet do not hit the database either. The cache is bounded and evicts the least recently
+ * used entry once it is full. Entries must be invalidated whenever the character of a user changes.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see CharacterService
+ * @since 1.0.0
+ */
+@Component
+public class CharacterCache {
+
+    /**
+     * The maximum amount of users whose characters are cached.
+     */
+    private static final int CACHE_SIZE = 2048;
+
+    private final Long2ObjectLinkedOpenHashMap<Optional<Character>> characters = new Long2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * Retrieves the cached lookup result for the specified user.
+     *
+     * @param userId the id of the user.
+     * @return {@code null} if nothing is cached for the user, an empty {@link Optional} if the user is known to have
+     * no character, or an {@link Optional} containing the character otherwise.
+     */
+    public @Nullable Optional<Character> get(final long userId) {
+        synchronized (this.characters) {
+            return this.characters.getAndMoveToLast(userId);
+        }
+    }
+
+    /**
+     * Caches the lookup result for the specified user.
+     *
+     * @param userId    the id of the user.
+     * @param character the character of the user, or {@code null} if the user has no character.
+     */
+    public void put(final long userId, @Nullable final Character character) {
+        synchronized (this.characters) {
+            this.characters.putAndMoveToLast(userId, Optional.ofNullable(character));
+            if (this.characters.size() > CACHE_SIZE) {
+                this.characters.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Removes the cached lookup result for the specified user.
+     *
+     * @param userId the id of the user.
+     */
+    public void invalidate(final long userId) {
+        synchronized (this.characters) {
+            this.characters.remove(userId);
+        }
+    }
+
+    /**
+     * Removes all cached lookup results.
+     */
+    public void clear() {
+        synchronized (this.characters) {
+            this.characters.clear();
+        }
+    }
+
+    /**
+     * Retrieves the amount of cached lookup results.
+     *
+     * @return the amount of cached lookup results.
+     */
+    public int size() {
+        synchronized (this.characters) {
+            return this.characters.size();
+        }
+    }
+}
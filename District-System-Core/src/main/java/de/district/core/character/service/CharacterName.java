@@ -0,0 +1,27 @@
+package de.district.core.character.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * The name of a character as stored in the {@link CharacterNameDirectory}.
+ *
+ * @param characterId the id of the character.
+ * @param uuid        the UUID of the player that owns the character.
+ * @param firstName   the first name of the character.
+ * @param lastName    the last name of the character.
+ * @author Erik Pförtner
+ * @since 1.0.0
+ */
+public record CharacterName(long characterId, @NotNull UUID uuid, @NotNull String firstName, @NotNull String lastName) {
+
+    /**
+     * Retrieves the full name of the character.
+     *
+     * @return the first and the last name, separated by a space.
+     */
+    public @NotNull String fullName() {
+        return this.firstName + " " + this.lastName;
+    }
+}
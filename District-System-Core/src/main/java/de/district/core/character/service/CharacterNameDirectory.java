@@ -0,0 +1,222 @@
+package de.district.core.character.service;
+
+import de.district.core.character.domain.CharacterNameView;
+import de.district.core.character.repository.CharacterRepository;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * The {@code CharacterNameDirectory} class keeps the names of all characters in memory, so commands can look up
+ * characters by their first, last or full name without querying the database.
+ *
+ * <p>The names are stored in a sorted index of lower-case keys. A prefix search is a range scan over that index,
+ * so it only touches the matching entries and never the whole directory. Results are bounded by
+ * {@link #MAX_RESULTS}. The directory is loaded once the application is ready and must be kept current through
+ * {@link #put(CharacterName)} whenever a character is created or renamed.</p>
+ *
+ * <p>This class is thread-safe. The index and the names are held together in one {@link Entries} instance. A
+ * reload builds new entries and publishes them with a single volatile write, and all writes are serialized through
+ * one lock, so a reload can never interleave with {@link #put(CharacterName)} or {@link #remove(long)}. Reads do
+ * not lock.</p>
+ *
+ * @author Erik Pförtner
+ * @see CharacterService
+ * @since 1.0.0
+ */
+@Service
+public class CharacterNameDirectory {
+
+    /**
+     * The maximum amount of results returned by a single search.
+     */
+    public static final int MAX_RESULTS = 50;
+    /**
+     * The character separating the name from the character id in an index key. It sorts before every
+     * printable character, so all keys of the same name are adjacent.
+     */
+    private static final char KEY_SEPARATOR = '\0';
+    /**
+     * The character appended to a prefix to build the exclusive upper bound of its range.
+     */
+    private static final char RANGE_END = '\uffff';
+
+    /**
+     * The lock serializing all writes to the directory.
+     */
+    private final Object writeLock = new Object();
+    private volatile Entries entries = new Entries();
+
+    private final CharacterRepository characterRepository;
+
+    public CharacterNameDirectory(final CharacterRepository characterRepository) {
+        this.characterRepository = characterRepository;
+    }
+
+    /**
+     * Loads the names of all characters from the database. This method is called once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        synchronized (this.writeLock) {
+            Entries loaded = new Entries();
+            try (Stream<CharacterNameView> characters = this.characterRepository.streamNames()) {
+                characters.forEach(character -> loaded.put(new CharacterName(character.getId(), character.getUuid(),
+                        character.getFirstName(), character.getLastName())));
+            }
+            this.entries = loaded;
+        }
+    }
+
+    /**
+     * Adds the specified name to the directory or replaces the former name of the same character.
+     *
+     * @param name the name of the character.
+     */
+    public void put(@NotNull final CharacterName name) {
+        synchronized (this.writeLock) {
+            this.entries.put(name);
+        }
+    }
+
+    /**
+     * Removes the name of the specified character from the directory.
+     *
+     * @param characterId the id of the character.
+     */
+    public void remove(final long characterId) {
+        synchronized (this.writeLock) {
+            this.entries.remove(characterId);
+        }
+    }
+
+    /**
+     * Searches all characters whose first, last or full name starts with the specified prefix, ignoring case.
+     *
+     * @param prefix the prefix to search for.
+     * @param limit  the maximum amount of results, capped at {@link #MAX_RESULTS}.
+     * @return the matching characters in the order of their names.
+     */
+    public @NotNull List<CharacterName> search(@NotNull final String prefix, final int limit) {
+        int max = Math.min(limit, MAX_RESULTS);
+        List<CharacterName> results = new ObjectArrayList<>();
+        if (max <= 0) {
+            return results;
+        }
+
+        LongSet found = new LongOpenHashSet();
+        for (CharacterName name : range(prefix).values()) {
+            if (found.add(name.characterId())) {
+                results.add(name);
+                if (results.size() >= max) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Completes the specified prefix to the first and last names of the characters in the directory. Full names
+     * are not suggested, since they cannot be completed as a single argument.
+     *
+     * @param prefix the prefix to complete.
+     * @param limit  the maximum amount of suggestions, capped at {@link #MAX_RESULTS}.
+     * @return the distinct matching names in the order of the index.
+     */
+    public @NotNull List<String> complete(@NotNull final String prefix, final int limit) {
+        int max = Math.min(limit, MAX_RESULTS);
+        if (max <= 0) {
+            return new ObjectArrayList<>();
+        }
+
+        Set<String> suggestions = new ObjectLinkedOpenHashSet<>();
+        for (Map.Entry<String, CharacterName> entry : range(prefix).entrySet()) {
+            String key = entry.getKey().substring(0, entry.getKey().indexOf(KEY_SEPARATOR));
+            CharacterName name = entry.getValue();
+            if (name.firstName().equalsIgnoreCase(key)) {
+                suggestions.add(name.firstName());
+            } else if (name.lastName().equalsIgnoreCase(key)) {
+                suggestions.add(name.lastName());
+            }
+            if (suggestions.size() >= max) {
+                break;
+            }
+        }
+        return new ObjectArrayList<>(suggestions);
+    }
+
+    /**
+     * Retrieves the amount of characters in the directory.
+     *
+     * @return the amount of characters.
+     */
+    public int size() {
+        return this.entries.names.size();
+    }
+
+    private NavigableMap<String, CharacterName> range(@NotNull final String prefix) {
+        String from = normalize(prefix);
+        return this.entries.index.subMap(from, true, from + RANGE_END, false);
+    }
+
+    private static String[] keysOf(@NotNull final CharacterName name) {
+        String suffix = KEY_SEPARATOR + Long.toString(name.characterId());
+        return new String[]{
+                normalize(name.firstName()) + suffix,
+                normalize(name.lastName()) + suffix,
+                normalize(name.fullName()) + suffix
+        };
+    }
+
+    private static String normalize(@NotNull final String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The sorted index of the name keys together with the names by character id. Both maps are only modified while
+     * holding the write lock of the directory.
+     */
+    private static final class Entries {
+
+        private final NavigableMap<String, CharacterName> index = new ConcurrentSkipListMap<>();
+        private final Map<Long, CharacterName> names = new ConcurrentHashMap<>();
+
+        private void put(@NotNull final CharacterName name) {
+            CharacterName previous = this.names.put(name.characterId(), name);
+            if (previous != null) {
+                for (String key : keysOf(previous)) {
+                    this.index.remove(key);
+                }
+            }
+            for (String key : keysOf(name)) {
+                this.index.put(key, name);
+            }
+        }
+
+        private void remove(final long characterId) {
+            CharacterName previous = this.names.remove(characterId);
+            if (previous != null) {
+                for (String key : keysOf(previous)) {
+                    this.index.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package de.district.core.character.service;
 
-import de.district.api.DistrictAPI;
 import de.district.api.entity.PlayerCharacter;
 import de.district.api.entity.PluginPlayer;
 import de.district.core.character.domain.Character;
@@ -8,15 +7,23 @@ import de.district.core.character.domain.dto.CharacterDto;
 import de.district.core.character.repository.CharacterRepository;
 import de.district.core.character.util.Gender;
 import de.district.core.entity.CorePluginPlayer;
+import de.district.core.user.aggregate.PlayerAggregate;
+import de.district.core.user.aggregate.PlayerAggregateService;
 import de.district.core.user.domain.User;
-import de.district.core.user.domain.dto.UserDto;
 import de.district.core.user.repository.UserRepository;
+import de.district.core.user.service.UserIdResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
 
 @Service
 public class CharacterService {
@@ -25,10 +32,26 @@ public class CharacterService {
 
     private final UserRepository userRepository;
 
+    private final UserIdResolver userIdResolver;
+
+    private final PlayerAggregateService playerAggregateService;
+
+    private final CharacterCache characterCache;
+
+    private final CharacterNameDirectory characterNameDirectory;
+
     public CharacterService(final CharacterRepository characterRepository,
-                            final UserRepository userRepository) {
+                            final UserRepository userRepository,
+                            final UserIdResolver userIdResolver,
+                            final PlayerAggregateService playerAggregateService,
+                            final CharacterCache characterCache,
+                            final CharacterNameDirectory characterNameDirectory) {
         this.characterRepository = characterRepository;
         this.userRepository = userRepository;
+        this.userIdResolver = userIdResolver;
+        this.playerAggregateService = playerAggregateService;
+        this.characterCache = characterCache;
+        this.characterNameDirectory = characterNameDirectory;
     }
 
     public void createCharacter(@NotNull final PluginPlayer player,
@@ -36,19 +59,13 @@ public class CharacterService {
                                 @NotNull final String lastName,
                                 @NotNull final Gender gender,
                                 @NotNull final LocalDateTime dateOfBirth) {
-        Optional<User> user = userRepository.findByUuid(player.getUniqueId().toString())
-                .or(() -> {
-                    User newUser = new User(new UserDto(player.getUniqueId().toString(), System.currentTimeMillis(), "germany", false));
-                    userRepository.save(newUser);
-                    return Optional.of(newUser);
-                });
-
-        if (user.isEmpty()) {
-            throw new IllegalStateException("User not found");
-        }
+        final PlayerAggregate aggregate = playerAggregateService.getOnline(player.getUniqueId());
+        final User user = aggregate != null
+                ? aggregate.getUser()
+                : userRepository.getReferenceById(userIdResolver.resolveOrCreate(player.getUniqueId()));
 
         final CharacterDto characterDto = new CharacterDto(
-                user.get(),
+                user,
                 firstName,
                 lastName,
                 gender,
@@ -56,26 +73,148 @@ public class CharacterService {
                 LocalDateTime.now()
         );
 
-        final Character character = new Character(characterDto);
+        final Character character = characterRepository.save(new Character(characterDto));
+        characterCache.invalidate(character.getUser().getId());
+        characterNameDirectory.put(new CharacterName(character.getId(), player.getUniqueId(), firstName, lastName));
+        if (aggregate != null) {
+            aggregate.setCharacter(character);
+        }
+    }
+
+    /**
+     * Renames the character of the player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @param firstName the new first name of the character.
+     * @param lastName the new last name of the character.
+     * @return {@code true} if the character has been renamed, {@code false} if the player has no character.
+     */
+    public boolean renameCharacter(@NotNull final UUID uuid,
+                                   @NotNull final String firstName,
+                                   @NotNull final String lastName) {
+        final PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+        final Optional<Character> existing = aggregate != null
+                ? Optional.ofNullable(aggregate.getCharacter())
+                : findCharacter(uuid);
+        if (existing.isEmpty()) {
+            return false;
+        }
+
+        final Character character = existing.get();
+        character.setFirstName(firstName);
+        character.setLastName(lastName);
+        final Character saved = characterRepository.save(character);
 
-        characterRepository.save(character);
+        characterCache.invalidate(saved.getUser().getId());
+        characterNameDirectory.put(new CharacterName(saved.getId(), uuid, firstName, lastName));
+        if (aggregate != null) {
+            aggregate.setCharacter(saved);
+        }
+        return true;
     }
 
-    public @Nullable PlayerCharacter findCharacterByPlayer(@NotNull final CorePluginPlayer corePluginPlayer) {
-        Optional<User> user = userRepository.findByUuid(corePluginPlayer.getUniqueId().toString());
+    /**
+     * Searches all characters whose first, last or full name starts with the specified prefix, ignoring case.
+     *
+     * @param prefix the prefix to search for.
+     * @param limit the maximum amount of results, capped at {@link CharacterNameDirectory#MAX_RESULTS}.
+     * @return the matching character names.
+     */
+    public List<CharacterName> searchCharacters(@NotNull final String prefix, final int limit) {
+        return characterNameDirectory.search(prefix, limit);
+    }
 
-        if (user.isEmpty()) {
-            DistrictAPI.getLogger().warning("User not found for player " + corePluginPlayer.getName());
-            return null;
+    public @Nullable PlayerCharacter findCharacterByPlayer(@NotNull final CorePluginPlayer corePluginPlayer) {
+        PlayerAggregate aggregate = corePluginPlayer.getAggregate();
+        if (aggregate != null) {
+            return aggregate.getCharacter();
         }
 
-        Optional<Character> character = characterRepository.findByUser(user.get());
+        return findCharacter(corePluginPlayer.getUniqueId()).orElse(null);
+    }
+
+    /**
+     * Finds the character of the player with the specified UUID.
+     *
+     * <p>The result is cached by user id, including the absence of a character. On a cache miss, the character
+     * and its user are fetched with a single query by UUID.</p>
+     *
+     * @param uuid the UUID of the player.
+     * @return an {@link Optional} containing the character, or empty if the player has no character.
+     */
+    public Optional<Character> findCharacter(@NotNull final UUID uuid) {
+        OptionalLong userId = userIdResolver.resolveCached(uuid);
+        if (userId.isPresent()) {
+            Optional<Character> cached = characterCache.get(userId.getAsLong());
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        if (character.isEmpty()) {
-            DistrictAPI.getLogger().warning("Character not found for player " + corePluginPlayer.getName());
-            return null;
+        Optional<Character> character = characterRepository.findByUserUuid(uuid);
+        if (character.isPresent()) {
+            characterCache.put(character.get().getUser().getId(), character.get());
+        } else if (userId.isPresent()) {
+            characterCache.put(userId.getAsLong(), null);
         }
+        return character;
+    }
+
+    /**
+     * Retrieves a single page of characters that have been created within the specified period, ordered by their
+     * creation timestamp.
+     *
+     * @param from the inclusive start of the period.
+     * @param to the inclusive end of the period.
+     * @param page the zero-based index of the page.
+     * @param pageSize the amount of characters per page.
+     * @return a {@link Slice} containing the characters of the requested page.
+     */
+    public Slice<Character> findCharactersCreatedBetween(@NotNull final LocalDateTime from,
+                                                         @NotNull final LocalDateTime to,
+                                                         final int page,
+                                                         final int pageSize) {
+        return characterRepository.findByCreatedAtBetween(from, to, PageRequest.of(page, pageSize, Sort.by("createdAt")));
+    }
+
+    /**
+     * Counts the characters that have been created within the specified period.
+     *
+     * @param from the inclusive start of the period.
+     * @param to the inclusive end of the period.
+     * @return the amount of characters created within the period.
+     */
+    public long countCharactersCreatedBetween(@NotNull final LocalDateTime from, @NotNull final LocalDateTime to) {
+        return characterRepository.countByCreatedAtBetween(from, to);
+    }
+
+    /**
+     * Retrieves a single page of characters that are at least the specified age, ordered by their date of birth.
+     *
+     * @param minimumAge the minimum age in years.
+     * @param page the zero-based index of the page.
+     * @param pageSize the amount of characters per page.
+     * @return a {@link Slice} containing the characters of the requested page.
+     */
+    public Slice<Character> findCharactersOfMinimumAge(final int minimumAge, final int page, final int pageSize) {
+        LocalDateTime latestDob = LocalDateTime.now().minusYears(minimumAge);
+        return characterRepository.findByDobLessThanEqual(latestDob, PageRequest.of(page, pageSize, Sort.by("dob")));
+    }
 
-        return character.get();
+    /**
+     * Retrieves a single page of characters whose age lies within the specified range, ordered by their date of birth.
+     *
+     * @param minimumAge the inclusive minimum age in years.
+     * @param maximumAge the inclusive maximum age in years.
+     * @param page the zero-based index of the page.
+     * @param pageSize the amount of characters per page.
+     * @return a {@link Slice} containing the characters of the requested page.
+     */
+    public Slice<Character> findCharactersOfAge(final int minimumAge, final int maximumAge, final int page, final int pageSize) {
+        LocalDateTime now = LocalDateTime.now();
+        // A character born exactly maximumAge + 1 years ago is already one year older, so this bound is exclusive.
+        LocalDateTime earliestDob = now.minusYears(maximumAge + 1L);
+        LocalDateTime latestDob = now.minusYears(minimumAge);
+        return characterRepository.findByDobAfterAndDobLessThanEqual(earliestDob, latestDob, PageRequest.of(page, pageSize, Sort.by("dob")));
     }
 }
@@ -0,0 +1,33 @@
+package de.district.core.economy.command;
+
+import de.district.api.DistrictAPI;
+import de.district.api.command.PluginCommandExecutor;
+import de.district.api.command.PluginCommandSender;
+import de.district.api.command.annotation.Required;
+import de.district.api.entity.PluginPlayer;
+import de.district.core.economy.inventory.BankCustomerInventory;
+import org.bukkit.command.Command;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Opens the paged customer list of a bank provider. If no provider is given, the default bank provider is used.
+ *
+ * <p>Usage: {@code /bankcustomers [Anbieter]}</p>
+ *
+ * @author Erik Pförtner
+ * @see BankCustomerInventory
+ * @since 1.0.0
+ */
+@Required(permissions = "district.bank.customers", useInConsole = false)
+public class BankCustomersCommand implements PluginCommandExecutor {
+    @Override
+    public boolean onCommand(@NotNull PluginCommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (!(sender instanceof PluginPlayer player)) {
+            sender.sendMessage("§cYou must be a player to execute this command.");
+            return false;
+        }
+        final String provider = args.length == 0 ? DistrictAPI.getDefaultBankProvider() : String.join(" ", args);
+        new BankCustomerInventory(player, provider).open();
+        return true;
+    }
+}
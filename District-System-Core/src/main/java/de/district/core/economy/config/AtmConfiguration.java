@@ -0,0 +1,67 @@
+package de.district.core.economy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code AtmConfiguration} class is a Spring component that holds the configuration properties
+ * for the ATMs within the plugin. This class uses the prefix "plugin.atm" to map properties from the
+ * application's configuration file.
+ *
+ * <pre>
+ * plugin:
+ *   atm:
+ *     persist-interval: 60
+ *     refill-interval: 1800
+ *     default-refill-level: 10000.0
+ *     refill-levels:
+ *       "[Bank of District]": 25000.0
+ * </pre>
+ *
+ * @see de.district.core.economy.location.atm.service.AtmCashService
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "plugin.atm")
+public class AtmConfiguration {
+
+    /**
+     * The interval in seconds in which changed cash reserves of the ATMs are written to the database.
+     */
+    private long persistInterval = 60;
+
+    /**
+     * The interval in seconds in which the ATMs are restocked.
+     */
+    private long refillInterval = 1800;
+
+    /**
+     * The cash level to which the ATMs of providers without an entry in {@link #refillLevels} are restocked.
+     * A level of {@code 0} disables the restocking of these ATMs.
+     */
+    private double defaultRefillLevel = 10000.0;
+
+    /**
+     * The cash level to which the ATMs of a provider are restocked, by the name of the provider. ATMs holding more
+     * cash than their level are not changed.
+     */
+    private Map<String, Double> refillLevels = new HashMap<>();
+
+    /**
+     * Retrieves the cash level to which the ATMs of the specified provider are restocked.
+     *
+     * @param provider the name of the provider.
+     * @return the refill level of the provider.
+     */
+    public double getRefillLevel(final String provider) {
+        return this.refillLevels.getOrDefault(provider, this.defaultRefillLevel);
+    }
+}
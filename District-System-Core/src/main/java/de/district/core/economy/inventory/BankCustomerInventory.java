@@ -0,0 +1,81 @@
+package de.district.core.economy.inventory;
+
+import de.district.api.DistrictAPI;
+import de.district.api.entity.PluginPlayer;
+import de.district.api.inventorymanager.PagedDataSource;
+import de.district.api.inventorymanager.PagedInventory;
+import de.district.api.inventorymanager.PagedResult;
+import de.district.core.DistrictRoleplay;
+import de.district.core.economy.domain.Bank;
+import de.district.core.economy.service.EconomyService;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static de.splatgames.springlify.platform.item.ItemBuilder.ItemStackItemBuilder;
+
+/**
+ * The {@code BankCustomerInventory} class displays the customers of a bank provider in a {@link PagedInventory}.
+ *
+ * <p>The bank accounts are loaded page by page through {@link EconomyService#getBankCustomersAfter(String, Long, int)},
+ * using the identifier of the last bank account as cursor. Only the visible bank accounts are ever held in memory,
+ * regardless of the provider size, and the next page is prefetched while the current one is shown.</p>
+ *
+ * @author Erik Pförtner
+ * @see EconomyService
+ * @see PagedInventory
+ * @since 1.0.0
+ */
+public class BankCustomerInventory implements PagedDataSource<Bank, Long> {
+
+    private final PluginPlayer viewer;
+    private final String provider;
+
+    /**
+     * Constructs a new {@code BankCustomerInventory} for the specified viewer and provider.
+     *
+     * @param viewer   the player who views the customer list.
+     * @param provider the bank provider whose customers are displayed.
+     */
+    public BankCustomerInventory(@NotNull final PluginPlayer viewer, @NotNull final String provider) {
+        this.viewer = viewer;
+        this.provider = provider;
+    }
+
+    /**
+     * Loads the first page asynchronously and opens it for the viewer on the main thread.
+     */
+    public void open() {
+        new PagedInventory<>(JavaPlugin.getPlugin(DistrictRoleplay.class), this.viewer.getBukkitPlayer(),
+                Component.text("§6" + this.provider + " §8» §7Kunden"), this, BankCustomerInventory::render, null).open();
+    }
+
+    /**
+     * Loads the bank accounts following the specified bank account. This method is called asynchronously.
+     *
+     * @param cursor the identifier of the last bank account of the previous page, or {@code null} for the first page.
+     * @param limit  the maximum amount of bank accounts.
+     * @return the loaded bank accounts and the identifier of the last one, if more bank accounts follow.
+     */
+    @Override
+    public @NotNull PagedResult<Bank, Long> fetch(@Nullable final Long cursor, final int limit) {
+        EconomyService economyService = DistrictAPI.getBean(EconomyService.class);
+        return PagedResult.of(economyService.getBankCustomersAfter(this.provider, cursor, limit + 1), limit, Bank::getId);
+    }
+
+    private static @NotNull ItemStack render(@NotNull final Bank bank) {
+        OfflinePlayer customer = Bukkit.getOfflinePlayer(bank.getUser().getUuid());
+        return ItemStackItemBuilder
+                .fromMaterial(Material.PAPER)
+                .setName("§8» §6" + (customer.getName() == null ? bank.getUser().getUuid().toString() : customer.getName()))
+                .appendLore(
+                        "§7IBAN: §e" + bank.getIban(),
+                        "§7Kontotyp: §e" + bank.getBankType())
+                .build();
+    }
+}
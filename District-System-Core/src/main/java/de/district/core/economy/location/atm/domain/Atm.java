@@ -1,5 +1,7 @@
 package de.district.core.economy.location.atm.domain;
 
+import de.district.api.economy.GameAtm;
+import de.district.api.location.Location;
 import de.district.api.location.LocationType;
 import de.district.core.economy.location.atm.domain.dto.AtmDto;
 import de.district.core.location.domain.BaseLocationEntity;
@@ -32,7 +34,7 @@ import lombok.ToString;
 @Entity
 @Table(name = "atms")
 @DiscriminatorValue("ATM")
-public class Atm extends BaseLocationEntity {
+public class Atm extends BaseLocationEntity implements GameAtm {
 
     @Dto(order = 1)
     @Column(name = "provider")
@@ -83,4 +85,29 @@ public class Atm extends BaseLocationEntity {
     public AtmDto buildAtmDto() {
         return new AtmDto(this.provider, this.availableMoney);
     }
+
+    /**
+     * Creates a detached copy of this {@code Atm} entity with the specified available money and version. The copy
+     * can be published in place of this entity, which is never modified.
+     *
+     * @param availableMoney the available money of the copy.
+     * @param version the version of the copy.
+     * @return the copy.
+     */
+    public Atm withAvailableMoney(final double availableMoney, final long version) {
+        Atm copy = new Atm(buildBaseLocationEntityDto(), buildCoordinateDto(), new AtmDto(this.provider, availableMoney));
+        copy.setId(getId());
+        copy.setVersion(version);
+        return copy;
+    }
+
+    /**
+     * Retrieves the location of this ATM, which is the ATM entity itself.
+     *
+     * @return this ATM.
+     */
+    @Override
+    public Location getLocation() {
+        return this;
+    }
 }
@@ -0,0 +1,117 @@
+package de.district.core.economy.location.atm.interaction;
+
+import de.district.api.DistrictAPI;
+import de.district.api.economy.GameBank;
+import de.district.api.entity.PluginPlayer;
+import de.district.api.inventorymanager.CustomItem;
+import de.district.api.inventorymanager.InventoryTemplate;
+import de.district.api.util.ItemBuilder;
+import de.district.core.entity.PlayerProfileCache;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import static de.splatgames.springlify.platform.item.ItemBuilder.ItemStackItemBuilder;
+
+/**
+ * The {@code AtmMenuTemplate} class holds the {@link InventoryTemplate}s of the ATM menus, built once on first use.
+ *
+ * <p>The filler, the border and the static items are compiled into the template, only the head of the player is
+ * built per opening. As the static items are shared by all players, their click actions take the player from the
+ * event.</p>
+ *
+ * @author Erik Pförtner
+ * @see AtmInteraction
+ * @see InventoryTemplate
+ * @since 1.0.0
+ */
+final class AtmMenuTemplate {
+
+    private static final int SIZE = 27;
+    private static final int HEAD_SLOT = 11;
+    private static final int STATUS_SLOT = 13;
+    private static final int FIND_BANK_SLOT = 15;
+
+    private AtmMenuTemplate() {
+        // utility class
+    }
+
+    /**
+     * Retrieves the template of the menu shown to players without a bank provider.
+     *
+     * @return the template.
+     */
+    static @NotNull InventoryTemplate noBankProvider() {
+        return NoBankProvider.TEMPLATE;
+    }
+
+    /**
+     * Holds the template of the menu shown to players without a bank provider, built on first use.
+     */
+    private static final class NoBankProvider {
+
+        private static final InventoryTemplate TEMPLATE = InventoryTemplate.builder(SIZE, Component.text("§dATM §8» §cKein Bankanbieter"))
+                .fill()
+                .item(ItemStackItemBuilder.fromMaterial(Material.RED_STAINED_GLASS).build(), 0, 8, 9, 17, 18, 26)
+                .item(STATUS_SLOT, ItemStackItemBuilder
+                        .fromMaterial(Material.BARRIER)
+                        .setName("§8» §cKein Zugriff")
+                        .appendLore("§7Du hast keinen Bankkonto eröffnet.")
+                        .build())
+                .item(new CustomItem(FIND_BANK_SLOT, ItemStackItemBuilder
+                        .fromMaterial(Material.MAP)
+                        .setName("§8» §6Nächste Bank finden")
+                        .appendLore("§7Klicke hier, um die nächste Bank in deiner Nähe zu finden.")
+                        .build()) {
+                    @Override
+                    public void onClick(final InventoryClickEvent event) {
+                        PluginPlayer player = DistrictAPI.getPluginPlayer((Player) event.getWhoClicked());
+                        if (player != null) {
+                            sendNearestBank(player);
+                        }
+                    }
+                })
+                .dynamic(HEAD_SLOT, NoBankProvider::createHead)
+                .build();
+
+        private static @NotNull CustomItem createHead(@NotNull final Player player) {
+            ItemStack head = new ItemBuilder(DistrictAPI.getBean(PlayerProfileCache.class).createHead(player))
+                    .setName("§8» §6" + player.getName())
+                    .setLore(List.of(
+                            "§7Anbieter: §cKein Bankanbieter",
+                            "§7Kontostand: §c0.00€"))
+                    .build();
+            return new CustomItem(HEAD_SLOT, head) {
+                @Override
+                public void onClick(final InventoryClickEvent event) {
+                    player.sendMessage(Component.text("§cDu hast noch keinen Bankanbieter ausgewählt."));
+                    player.sendMessage(Component.text("§7Gehe zu einer Bank in deiner Nähe, um einen Bankanbieter auszuwählen."));
+                    player.closeInventory();
+                }
+            };
+        }
+
+        private static void sendNearestBank(@NotNull final PluginPlayer player) {
+            Optional<GameBank> nearestBank = player.findNearestBank();
+            if (nearestBank.isPresent()) {
+                player.sendMessage(Component.text("§7Die nächste Bank ist §6" + nearestBank.get().getLocation().getName() + "§7."));
+                player.sendMessage(Component.text(String.format(
+                        "§7Gehe zu §6%s X: %s Y: %s Z: %s§7, um ein Bankkonto zu eröffnen.",
+                        nearestBank.get().getLocation().getName(),
+                        (int) nearestBank.get().getLocation().getX(),
+                        (int) nearestBank.get().getLocation().getY(),
+                        (int) nearestBank.get().getLocation().getZ()
+                )));
+            } else {
+                player.sendMessage(Component.text("§cEs konnte keine Bank in deiner Nähe gefunden werden."));
+                player.sendMessage(Component.text("§7Dies passiert meist, wenn die Administratoren keine Banken erstellt haben."));
+            }
+        }
+    }
+}
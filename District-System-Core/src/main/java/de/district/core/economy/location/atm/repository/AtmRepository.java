@@ -3,6 +3,10 @@ package de.district.core.economy.location.atm.repository;
 import de.district.core.economy.location.atm.domain.Atm;
 import de.district.core.location.repository.LocationRepository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 /**
@@ -25,4 +29,15 @@ public interface AtmRepository extends LocationRepository<Atm, Long> {
      * @return a list of ATMs associated with the specified provider.
      */
     List<Atm> findByProvider(final String provider);
+
+    /**
+     * Finds the identifiers of the {@link Atm} instances following the specified identifier, ordered by their
+     * identifier.
+     *
+     * @param afterId the identifier of the last ATM of the previous page.
+     * @param limit the maximum amount of identifiers.
+     * @return the identifiers following the specified identifier.
+     */
+    @Query("SELECT a.id FROM Atm a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsAfter(@Param("afterId") final long afterId, final Limit limit);
 }
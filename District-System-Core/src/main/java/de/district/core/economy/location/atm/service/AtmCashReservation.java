@@ -0,0 +1,64 @@
+package de.district.core.economy.location.atm.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reservation of cash at an ATM, created by {@link AtmCashService#reserve(long, double)}.
+ *
+ * <p>The reserved cash is taken from the ATM as soon as the reservation is created, so no other withdrawal can
+ * claim it. The reservation has to be completed with either {@link #commit()}, once the withdrawal has been booked,
+ * or {@link #release()}, which returns the cash to the ATM. Only the first of both calls has an effect.</p>
+ *
+ * @author Erik Pförtner
+ * @see AtmCashService
+ * @since 1.0.0
+ */
+public final class AtmCashReservation {
+
+    private final long atmId;
+    private final AtmCashReserve reserve;
+    private final long cents;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    AtmCashReservation(final long atmId, @NotNull final AtmCashReserve reserve, final long cents) {
+        this.atmId = atmId;
+        this.reserve = reserve;
+        this.cents = cents;
+    }
+
+    /**
+     * Completes the withdrawal. The reserved cash stays taken from the ATM.
+     */
+    public void commit() {
+        this.completed.set(true);
+    }
+
+    /**
+     * Cancels the withdrawal and returns the reserved cash to the ATM.
+     */
+    public void release() {
+        if (this.completed.compareAndSet(false, true)) {
+            this.reserve.add(this.cents);
+        }
+    }
+
+    /**
+     * Retrieves the id of the ATM the cash has been reserved at.
+     *
+     * @return the id of the ATM.
+     */
+    public long getAtmId() {
+        return this.atmId;
+    }
+
+    /**
+     * Retrieves the reserved amount.
+     *
+     * @return the reserved amount.
+     */
+    public double getAmount() {
+        return AtmCashService.toMoney(this.cents);
+    }
+}
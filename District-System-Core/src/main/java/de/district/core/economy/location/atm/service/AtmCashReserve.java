@@ -0,0 +1,93 @@
+package de.district.core.economy.location.atm.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The cash reserve of a single ATM in cents.
+ *
+ * <p>The reserve is changed with atomic operations only, so concurrent withdrawals at the same ATM neither block
+ * each other nor take more cash than available. The amount last written to the database is tracked to find the
+ * reserves that have to be persisted, together with the version of the ATM that write has been checked against.</p>
+ *
+ * @author Erik Pförtner
+ * @see AtmCashService
+ * @since 1.0.0
+ */
+final class AtmCashReserve {
+
+    private final String provider;
+    private final AtomicLong cents;
+    private volatile long persistedCents;
+    private volatile long version;
+
+    AtmCashReserve(final String provider, final long cents, final long version) {
+        this.provider = provider;
+        this.cents = new AtomicLong(cents);
+        this.persistedCents = cents;
+        this.version = version;
+    }
+
+    /**
+     * Retrieves the provider of the ATM, which determines its refill level.
+     *
+     * @return the provider.
+     */
+    String getProvider() {
+        return this.provider;
+    }
+
+    /**
+     * Takes the specified amount from the reserve if the reserve holds at least that amount.
+     *
+     * @param amount the amount in cents.
+     * @return {@code true} if the amount has been taken, {@code false} if the reserve holds less cash.
+     */
+    boolean tryTake(final long amount) {
+        long current;
+        do {
+            current = this.cents.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!this.cents.compareAndSet(current, current - amount));
+        return true;
+    }
+
+    void add(final long amount) {
+        this.cents.addAndGet(amount);
+    }
+
+    void topUp(final long level) {
+        this.cents.accumulateAndGet(level, Math::max);
+    }
+
+    void set(final long amount) {
+        this.cents.set(amount);
+    }
+
+    long get() {
+        return this.cents.get();
+    }
+
+    boolean isDirty() {
+        return this.cents.get() != this.persistedCents;
+    }
+
+    /**
+     * Retrieves the version of the ATM the next write of this reserve is checked against.
+     *
+     * @return the version of the ATM.
+     */
+    long getVersion() {
+        return this.version;
+    }
+
+    void setVersion(final long version) {
+        this.version = version;
+    }
+
+    void markPersisted(final long amount, final long version) {
+        this.persistedCents = amount;
+        this.version = version;
+    }
+}
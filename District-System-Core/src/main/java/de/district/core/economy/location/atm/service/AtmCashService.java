@@ -0,0 +1,369 @@
+package de.district.core.economy.location.atm.service;
+
+import de.district.api.economy.BalanceFailReason;
+import de.district.api.economy.GameAtm;
+import de.district.api.location.Location;
+import de.district.core.DistrictRoleplay;
+import de.district.core.economy.config.AtmConfiguration;
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.atm.repository.AtmRepository;
+import de.district.core.economy.location.atm.service.AtmCashWriter.CashWrite;
+import de.district.core.economy.service.EconomyService;
+import de.district.core.location.service.CoreLocationService;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code AtmCashService} class manages the cash reserves of the ATMs.
+ *
+ * <p>The cash of every ATM is held in memory as an atomic counter in cents, which is initialized from
+ * {@link Atm#getAvailableMoney()} on first use. Withdrawals reserve their cash with a compare-and-set on that
+ * counter, so busy ATMs never wait for database row locks and a reserve can never become negative. Changed reserves
+ * are written to the database periodically and on shutdown by the {@link AtmCashWriter}, all of them in one batch
+ * and under the optimistic version of each ATM. The written ATMs are then published in the location snapshot with a
+ * single {@link CoreLocationService#replaceLocations(java.util.Collection)}. A write that conflicts with a concurrent
+ * change of the ATM is retried in the next interval.</p>
+ *
+ * <p>In addition, the ATMs are restocked periodically to the refill level of their provider, see
+ * {@link AtmConfiguration}.</p>
+ *
+ * <p>Since the reserves are the source of truth while the server is running, the cash of an ATM must only be
+ * changed through this service. {@link Atm#getAvailableMoney()} reflects the last persisted amount, the API serves
+ * ATMs through {@link #live(Atm)} instead, which reads the reserve.</p>
+ *
+ * @author Erik Pförtner
+ * @see AtmCashReservation
+ * @since 1.0.0
+ */
+@Service
+public class AtmCashService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AtmCashService.class);
+    private static final long TICKS_PER_SECOND = 20L;
+    /**
+     * The amount of ATM ids read per query while restocking.
+     */
+    private static final int REFILL_PAGE_SIZE = 500;
+
+    @Autowired
+    private AtmRepository atmRepository;
+
+    @Autowired
+    private AtmCashWriter atmCashWriter;
+
+    @Autowired
+    private CoreLocationService locationService;
+
+    @Autowired
+    private EconomyService economyService;
+
+    @Autowired
+    private AtmConfiguration atmConfiguration;
+
+    private final Map<Long, AtmCashReserve> reserves = new ConcurrentHashMap<>();
+    private BukkitTask persistTask;
+    private BukkitTask refillTask;
+
+    /**
+     * Starts the periodic persistence and restocking of the ATMs. This method is called once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Plugin plugin = JavaPlugin.getPlugin(DistrictRoleplay.class);
+        long persistInterval = Math.max(1L, this.atmConfiguration.getPersistInterval()) * TICKS_PER_SECOND;
+        long refillInterval = Math.max(1L, this.atmConfiguration.getRefillInterval()) * TICKS_PER_SECOND;
+        this.persistTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::persist, persistInterval, persistInterval);
+        this.refillTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::refill, refillInterval, refillInterval);
+    }
+
+    /**
+     * Stops the periodic tasks and writes all changed reserves to the database. This method is called when the
+     * application context is closed.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        if (this.persistTask != null) {
+            this.persistTask.cancel();
+        }
+        if (this.refillTask != null) {
+            this.refillTask.cancel();
+        }
+        persist();
+    }
+
+    /**
+     * Reserves the specified amount of cash at the specified ATM.
+     *
+     * @param atmId  the id of the ATM.
+     * @param amount the amount to reserve, must be positive.
+     * @return an {@link Optional} containing the reservation, or empty if the ATM does not exist or does not hold
+     * enough cash.
+     * @throws IllegalArgumentException if the amount is not positive.
+     */
+    public Optional<AtmCashReservation> reserve(final long atmId, final double amount) {
+        long cents = toCents(amount);
+        if (cents <= 0) {
+            throw new IllegalArgumentException(String.format("The amount must be positive, but was %s", amount));
+        }
+
+        AtmCashReserve reserve = reserveOf(atmId);
+        if (reserve == null || !reserve.tryTake(cents)) {
+            return Optional.empty();
+        }
+        return Optional.of(new AtmCashReservation(atmId, reserve, cents));
+    }
+
+    /**
+     * Withdraws the specified amount at the specified ATM from the balance of the specified user. The cash is
+     * reserved before the balance is debited through {@link EconomyService#debitBalance(UUID, double)} and returned
+     * to the ATM if the balance cannot be debited.
+     *
+     * <p>The withdrawn amount is only taken from the balance and the ATM, it is not paid out to the player, since the
+     * economy has no cash model yet. This method is therefore not reachable in game and is only meant for services
+     * that book the payout themselves.</p>
+     *
+     * @param uuid   the UUID of the user.
+     * @param atmId  the id of the ATM.
+     * @param amount the amount to withdraw.
+     * @return an {@link Optional} containing a {@link BalanceFailReason} if the withdrawal fails, or empty if successful.
+     */
+    public Optional<BalanceFailReason> withdraw(@NotNull final UUID uuid, final long atmId, final double amount) {
+        if (!Double.isFinite(amount) || toCents(amount) <= 0) {
+            return Optional.of(BalanceFailReason.INVALID_AMOUNT);
+        }
+
+        Optional<AtmCashReservation> reservation = reserve(atmId, amount);
+        if (reservation.isEmpty()) {
+            return Optional.of(BalanceFailReason.ATM_OUT_OF_CASH);
+        }
+
+        boolean debited = false;
+        try {
+            Optional<BalanceFailReason> failure = this.economyService.debitBalance(uuid, amount);
+            debited = failure.isEmpty();
+            return failure;
+        } finally {
+            // The reserved cash is returned to the ATM unless the balance has been debited, also if the debit throws.
+            if (debited) {
+                reservation.get().commit();
+            } else {
+                reservation.get().release();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the cash currently available at the specified ATM.
+     *
+     * @param atmId the id of the ATM.
+     * @return an {@link OptionalDouble} containing the available cash, or empty if the ATM does not exist.
+     */
+    public OptionalDouble getAvailableMoney(final long atmId) {
+        AtmCashReserve reserve = reserveOf(atmId);
+        return reserve == null ? OptionalDouble.empty() : OptionalDouble.of(toMoney(reserve.get()));
+    }
+
+    /**
+     * Wraps the specified ATM in a {@link GameAtm} whose available money is read from the reserve of the ATM, so
+     * withdrawals and refills are visible before they have been persisted. The database is not queried.
+     *
+     * @param atm the ATM.
+     * @return the ATM with its current cash.
+     */
+    public @NotNull GameAtm live(@NotNull final Atm atm) {
+        return new LiveAtm(atm, this.reserves.computeIfAbsent(atm.getId(), id -> newReserve(atm)));
+    }
+
+    /**
+     * Sets the cash available at the specified ATM.
+     *
+     * @param atmId  the id of the ATM.
+     * @param amount the available cash, must not be negative.
+     * @return {@code true} if the cash has been set, {@code false} if the ATM does not exist.
+     * @throws IllegalArgumentException if the amount is negative.
+     */
+    public boolean setAvailableMoney(final long atmId, final double amount) {
+        long cents = toCents(amount);
+        if (cents < 0) {
+            throw new IllegalArgumentException(String.format("The amount must not be negative, but was %s", amount));
+        }
+
+        AtmCashReserve reserve = reserveOf(atmId);
+        if (reserve == null) {
+            return false;
+        }
+        reserve.set(cents);
+        return true;
+    }
+
+    /**
+     * Writes all changed reserves to the database with a single batch. The database is written without holding the
+     * lock of the {@link CoreLocationService}, the written ATMs are published afterwards with a single new snapshot.
+     * A write that conflicts with a concurrent change of its ATM picks up the current version and is retried in the
+     * next interval.
+     */
+    public synchronized void persist() {
+        List<CashWrite> pending = new ArrayList<>();
+        this.reserves.forEach((atmId, reserve) -> {
+            if (reserve.isDirty()) {
+                pending.add(new CashWrite(atmId, reserve.get(), reserve.getVersion()));
+            }
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<CashWrite> written;
+        try {
+            written = this.atmCashWriter.write(pending);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write the cash of {} ATMs.", pending.size(), e);
+            return;
+        }
+
+        List<Atm> published = new ArrayList<>(written.size());
+        for (CashWrite write : written) {
+            AtmCashReserve reserve = this.reserves.get(write.atmId());
+            if (reserve != null) {
+                reserve.markPersisted(write.cents(), write.version() + 1);
+            }
+            this.locationService.getSnapshot().get(write.atmId())
+                    .filter(Atm.class::isInstance)
+                    .map(Atm.class::cast)
+                    .ifPresent(atm -> published.add(atm.withAvailableMoney(toMoney(write.cents()), write.version() + 1)));
+        }
+        this.locationService.replaceLocations(published);
+
+        if (written.size() < pending.size()) {
+            Set<Long> writtenIds = written.stream().map(CashWrite::atmId).collect(Collectors.toSet());
+            refreshVersions(pending.stream().map(CashWrite::atmId).filter(id -> !writtenIds.contains(id)).toList());
+        }
+    }
+
+    /**
+     * Restocks all ATMs to the refill level of their provider. ATMs that hold more cash than their level are not
+     * changed. The reserves in memory are restocked directly. The ids of all ATMs are then read page by page, and only
+     * the ATMs without a reserve are loaded from the database.
+     */
+    public void refill() {
+        this.reserves.values().forEach(this::topUp);
+
+        long afterId = Long.MIN_VALUE;
+        List<Long> ids;
+        do {
+            ids = this.atmRepository.findIdsAfter(afterId, Limit.of(REFILL_PAGE_SIZE));
+            List<Long> unreserved = ids.stream().filter(id -> !this.reserves.containsKey(id)).toList();
+            if (!unreserved.isEmpty()) {
+                for (Atm atm : this.atmRepository.findAllById(unreserved)) {
+                    topUp(this.reserves.computeIfAbsent(atm.getId(), id -> newReserve(atm)));
+                }
+            }
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == REFILL_PAGE_SIZE);
+    }
+
+    static double toMoney(final long cents) {
+        return cents / 100.0;
+    }
+
+    private static long toCents(final double amount) {
+        return Math.round(amount * 100.0);
+    }
+
+    private AtmCashReserve reserveOf(final long atmId) {
+        AtmCashReserve reserve = this.reserves.get(atmId);
+        if (reserve != null) {
+            return reserve;
+        }
+
+        // ATMs in worlds that are not loaded are not part of the snapshot and are loaded from the database.
+        Optional<Atm> atm = this.locationService.getSnapshot().get(atmId)
+                .filter(Atm.class::isInstance)
+                .map(Atm.class::cast)
+                .or(() -> this.atmRepository.findById(atmId));
+        return atm.map(value -> this.reserves.computeIfAbsent(atmId, id -> newReserve(value)))
+                .orElse(null);
+    }
+
+    /**
+     * A {@link GameAtm} that reads its available money from the reserve of the ATM.
+     *
+     * @param atm     the ATM.
+     * @param reserve the reserve of the ATM.
+     */
+    private record LiveAtm(@NotNull Atm atm, @NotNull AtmCashReserve reserve) implements GameAtm {
+
+        @Override
+        public Location getLocation() {
+            return this.atm;
+        }
+
+        @Override
+        public double getAvailableMoney() {
+            return toMoney(this.reserve.get());
+        }
+    }
+
+    private void topUp(@NotNull final AtmCashReserve reserve) {
+        long level = toCents(this.atmConfiguration.getRefillLevel(reserve.getProvider()));
+        if (level > 0) {
+            reserve.topUp(level);
+        }
+    }
+
+    private static @NotNull AtmCashReserve newReserve(@NotNull final Atm atm) {
+        return new AtmCashReserve(atm.getProvider(), toCents(atm.getAvailableMoney()), atm.getVersion());
+    }
+
+    /**
+     * Reads the current versions of the ATMs whose write has conflicted, so they are written against these versions
+     * in the next interval. The reserves of ATMs that have been deleted in the meantime are dropped.
+     *
+     * @param atmIds the ids of the ATMs.
+     */
+    private void refreshVersions(@NotNull final List<Long> atmIds) {
+        Map<Long, Long> versions;
+        try {
+            versions = this.atmCashWriter.findVersions(atmIds);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not read the versions of {} ATMs.", atmIds.size(), e);
+            return;
+        }
+
+        for (Long atmId : atmIds) {
+            Long version = versions.get(atmId);
+            if (version == null) {
+                this.reserves.remove(atmId);
+            } else {
+                LOGGER.debug("The cash of ATM {} has been changed concurrently, it will be written again later.", atmId);
+                AtmCashReserve reserve = this.reserves.get(atmId);
+                if (reserve != null) {
+                    reserve.setVersion(version);
+                }
+            }
+        }
+    }
+}
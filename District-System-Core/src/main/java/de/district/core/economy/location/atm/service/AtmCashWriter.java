@@ -0,0 +1,103 @@
+package de.district.core.economy.location.atm.service;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code AtmCashWriter} class writes the cash of ATMs in JDBC batches.
+ *
+ * <p>All changed ATMs are written within a single transaction. Each write is checked against the optimistic version
+ * of its ATM and increments that version, so a concurrent {@link de.district.core.location.service.CoreLocationService#updateLocation}
+ * of an ATM fails instead of overwriting its cash with an outdated value. Only the {@code version} and
+ * {@code available_money} columns are written, the persistence context and the location snapshot are bypassed.</p>
+ *
+ * @author Erik Pförtner
+ * @see AtmCashService
+ * @since 1.0.0
+ */
+@Component
+public class AtmCashWriter {
+
+    private static final String UPDATE_VERSION = "UPDATE locations SET version = version + 1 WHERE id = ? AND version = ?";
+    private static final String UPDATE_CASH = "UPDATE atms SET available_money = ? WHERE id = ?";
+    private static final String SELECT_VERSIONS = "SELECT id, version FROM locations WHERE id IN (%s)";
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AtmCashWriter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes the specified cash amounts within a single transaction. An amount is only written if its ATM still has
+     * the version the write has been prepared with.
+     *
+     * @param writes the cash amounts to write.
+     * @return the writes that have been applied, each ATM now has the version following the one of its write.
+     */
+    @Transactional
+    public @NotNull List<CashWrite> write(@NotNull final List<CashWrite> writes) {
+        if (writes.isEmpty()) {
+            return List.of();
+        }
+
+        int[] counts = this.jdbcTemplate.batchUpdate(UPDATE_VERSION, writes, writes.size(), (statement, write) -> {
+            statement.setLong(1, write.atmId());
+            statement.setLong(2, write.version());
+        })[0];
+        List<CashWrite> applied = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            // A write whose version does not match any longer updates no row.
+            if (counts[i] != 0) {
+                applied.add(writes.get(i));
+            }
+        }
+
+        if (!applied.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(UPDATE_CASH, applied, applied.size(), (statement, write) -> {
+                statement.setDouble(1, AtmCashService.toMoney(write.cents()));
+                statement.setLong(2, write.atmId());
+            });
+        }
+        return applied;
+    }
+
+    /**
+     * Reads the current versions of the specified ATMs.
+     *
+     * @param atmIds the ids of the ATMs.
+     * @return the versions by ATM id. ATMs that do not exist any longer are missing.
+     */
+    public @NotNull Map<Long, Long> findVersions(@NotNull final List<Long> atmIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        // The ids are queried in chunks, so the parameter list of a single query stays bounded.
+        for (int from = 0; from < atmIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = atmIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, atmIds.size()));
+            String placeholders = chunk.stream().map(id -> "?").collect(Collectors.joining(", "));
+            this.jdbcTemplate.query(String.format(SELECT_VERSIONS, placeholders),
+                    (RowCallbackHandler) resultSet -> versions.put(resultSet.getLong("id"), resultSet.getLong("version")),
+                    chunk.toArray());
+        }
+        return versions;
+    }
+
+    /**
+     * The cash of an ATM to be written.
+     *
+     * @param atmId   the id of the ATM.
+     * @param cents   the cash of the ATM in cents.
+     * @param version the version of the ATM the write is checked against.
+     */
+    public record CashWrite(long atmId, long cents, long version) {
+    }
+}
@@ -1,5 +1,7 @@
 package de.district.core.economy.location.bank.domain;
 
+import de.district.api.economy.GameBank;
+import de.district.api.location.Location;
 import de.district.api.location.LocationType;
 import de.district.core.location.domain.BaseLocationEntity;
 import de.splatgames.generators.annotation.dto.Dto;
@@ -17,7 +19,7 @@ import lombok.ToString;
 @Entity
 @Table(name = "banks")
 @DiscriminatorValue("BANK")
-public class BankLoc extends BaseLocationEntity {
+public class BankLoc extends BaseLocationEntity implements GameBank {
 
     @Dto(order = 1)
     @Column(name = "provider")
@@ -26,4 +28,14 @@ public class BankLoc extends BaseLocationEntity {
     public BankLoc() {
         super.setType(LocationType.BANK);
     }
+
+    /**
+     * Retrieves the location of this bank, which is the bank entity itself.
+     *
+     * @return this bank.
+     */
+    @Override
+    public Location getLocation() {
+        return this;
+    }
 }
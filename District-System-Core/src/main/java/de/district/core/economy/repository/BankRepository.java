@@ -5,10 +5,22 @@ import de.district.api.economy.bank.Bic;
 import de.district.api.economy.bank.Iban;
 import de.district.core.economy.domain.Bank;
 import de.district.core.user.domain.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * The {@code BankRepository} interface extends {@link JpaRepository} and provides methods for performing CRUD operations
@@ -30,6 +42,23 @@ public interface BankRepository extends JpaRepository<Bank, Long> {
      */
     Optional<Bank> findByUser(final User user);
 
+    /**
+     * Finds a bank associated with the specified user id.
+     *
+     * @param userId the id of the user whose bank is to be found.
+     * @return an {@link Optional} containing the bank if found, or empty if not.
+     * @see de.district.core.user.service.UserIdResolver
+     */
+    Optional<Bank> findByUserId(final long userId);
+
+    /**
+     * Checks whether a bank exists for the specified user id.
+     *
+     * @param userId the id of the user.
+     * @return {@code true} if the user has a bank, {@code false} otherwise.
+     */
+    boolean existsByUserId(final long userId);
+
     /**
      * Finds all banks associated with the specified provider.
      *
@@ -47,6 +76,79 @@ public interface BankRepository extends JpaRepository<Bank, Long> {
      */
     List<Bank> findByProviderAndBankType(final String provider, final BankType bankType);
 
+    /**
+     * Finds a single page of banks associated with the specified provider.
+     *
+     * <p>Unlike {@link #findByProvider(String)}, this method never loads more than {@link Pageable#getPageSize()}
+     * entities and does not issue a {@code COUNT} query. The associated {@link User} is fetched in the same query.</p>
+     *
+     * @param provider the provider whose banks are to be found.
+     * @param pageable the page to be loaded, should be sorted by a unique column to keep the order stable.
+     * @return a slice of banks associated with the specified provider.
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<Bank> findByProvider(final String provider, final Pageable pageable);
+
+    /**
+     * Finds a single page of banks associated with the specified provider and {@link BankType}.
+     *
+     * @param provider the provider whose banks are to be found.
+     * @param bankType the type of bank to be found.
+     * @param pageable the page to be loaded, should be sorted by a unique column to keep the order stable.
+     * @return a slice of banks associated with the specified provider and bank type.
+     * @see #findByProvider(String, Pageable)
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<Bank> findByProviderAndBankType(final String provider, final BankType bankType, final Pageable pageable);
+
+    /**
+     * Finds the banks associated with the specified provider whose identifier is greater than the specified one,
+     * ordered by their identifier.
+     *
+     * <p>This is the keyset counterpart of {@link #findByProvider(String, Pageable)}: the database seeks to the
+     * identifier instead of skipping all rows of the previous pages, so every page costs the same. The associated
+     * {@link User} is fetched in the same query.</p>
+     *
+     * @param provider the provider whose banks are to be found.
+     * @param id       the identifier of the last bank of the previous page.
+     * @param limit    the maximum amount of banks to be found.
+     * @return a list of banks associated with the specified provider.
+     */
+    @EntityGraph(attributePaths = "user")
+    List<Bank> findByProviderAndIdGreaterThanOrderByIdAsc(final String provider, final Long id, final Limit limit);
+
+    /**
+     * Streams all banks associated with the specified provider, ordered by their identifier.
+     *
+     * <p>The returned {@link Stream} is backed by an open database cursor, so it must be consumed inside a
+     * transaction and closed afterwards. The entities are loaded read-only and in fetch-size chunks, which keeps
+     * the memory usage constant regardless of the amount of customers of the provider.</p>
+     *
+     * @param provider the provider whose banks are to be streamed.
+     * @return a stream of banks associated with the specified provider.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Bank b JOIN FETCH b.user WHERE b.provider = :provider ORDER BY b.id")
+    Stream<Bank> streamByProvider(@Param("provider") final String provider);
+
+    /**
+     * Streams all banks associated with the specified provider and {@link BankType}, ordered by their identifier.
+     *
+     * @param provider the provider whose banks are to be streamed.
+     * @param bankType the type of bank to be streamed.
+     * @return a stream of banks associated with the specified provider and bank type.
+     * @see #streamByProvider(String)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Bank b JOIN FETCH b.user WHERE b.provider = :provider AND b.bankType = :bankType ORDER BY b.id")
+    Stream<Bank> streamByProviderAndBankType(@Param("provider") final String provider, @Param("bankType") final BankType bankType);
+
     /**
      * Finds a bank associated with the specified {@link Iban}.
      *
@@ -2,7 +2,11 @@ package de.district.core.economy.repository;
 
 import de.district.core.economy.domain.Economy;
 import de.district.core.user.domain.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -26,4 +30,48 @@ public interface EconomyRepository extends CrudRepository<Economy, Long> {
      * @return an {@link Optional} containing the economy record if found, or empty if not.
      */
     Optional<Economy> findByUser(final User user);
+
+    /**
+     * Finds an economy record associated with the specified user id.
+     *
+     * @param userId the id of the user whose economy record is to be found.
+     * @return an {@link Optional} containing the economy record if found, or empty if not.
+     * @see de.district.core.user.service.UserIdResolver
+     */
+    Optional<Economy> findByUserId(final long userId);
+
+    /**
+     * Updates the balance of the economy record with the specified id without loading the record first.
+     *
+     * @param id the id of the economy record.
+     * @param balance the new balance.
+     * @return the amount of updated records.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Economy e SET e.balance = :balance WHERE e.id = :id")
+    int updateBalance(@Param("id") final long id, @Param("balance") final double balance);
+
+    /**
+     * Subtracts the specified amount from the balance of the specified user if the balance covers it. The check and
+     * the subtraction are performed by a single statement, so concurrent debits can neither overdraw the balance nor
+     * lose each other's updates.
+     *
+     * @param userId the id of the user.
+     * @param amount the amount to subtract.
+     * @return the amount of updated records, {@code 0} if the user has no economy record or an insufficient balance.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Economy e SET e.balance = e.balance - :amount WHERE e.user.id = :userId AND e.balance >= :amount")
+    int debitBalance(@Param("userId") final long userId, @Param("amount") final double amount);
+
+    /**
+     * Retrieves the balance of the economy record with the specified id.
+     *
+     * @param id the id of the economy record.
+     * @return an {@link Optional} containing the balance, or empty if the record does not exist.
+     */
+    @Query("SELECT e.balance FROM Economy e WHERE e.id = :id")
+    Optional<Double> findBalanceById(@Param("id") final long id);
 }
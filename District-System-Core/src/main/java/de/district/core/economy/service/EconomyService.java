@@ -10,15 +10,29 @@ import de.district.core.economy.domain.Bank;
 import de.district.core.economy.domain.Economy;
 import de.district.core.economy.domain.dto.BankDto;
 import de.district.core.economy.domain.dto.EconomyDto;
-import de.district.core.user.repository.UserRepository;
+import de.district.core.user.aggregate.PlayerAggregate;
+import de.district.core.user.aggregate.PlayerAggregateService;
 import de.district.core.user.domain.User;
-import de.district.core.user.domain.dto.UserDto;
+import de.district.core.user.repository.UserRepository;
+import de.district.core.user.service.UserIdResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * The {@code EconomyService} class provides business logic for managing the economy system, including operations
@@ -28,12 +42,24 @@ import java.util.UUID;
  * <p>This service handles operations such as setting, adding, removing, and transferring balances, as well as
  * creating and managing bank accounts for users.</p>
  *
+ * <p>For online players, the balance and the bank account are read from the {@link PlayerAggregate} attached to
+ * the player's session. Changes are written back to the database immediately, one entity at a time, and then
+ * applied to the aggregate.</p>
+ *
  * @since 1.0.0
  * @author Erik Pförtner
  */
 @Service
 public class EconomyService {
 
+    /**
+     * The amount of streamed banks after which the persistence context is cleared again.
+     */
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
     private EconomyRepository economyRepository;
 
@@ -43,6 +69,12 @@ public class EconomyService {
     @Autowired
     private BankRepository bankRepository;
 
+    @Autowired
+    private UserIdResolver userIdResolver;
+
+    @Autowired
+    private PlayerAggregateService playerAggregateService;
+
     /**
      * Rounds a double value down to the nearest whole number.
      *
@@ -67,17 +99,19 @@ public class EconomyService {
         }*/
 
         try {
-            User user = userRepository.findByUuid(uuid.toString()).orElseGet(() -> {
-                UserDto userDto = new UserDto(uuid.toString(), System.currentTimeMillis(), "Default", false);
-                User newUser = new User(userDto);
-                return userRepository.save(newUser);
-            });
+            PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+            if (aggregate != null) {
+                setBalance(aggregate, balance);
+                return Optional.empty();
+            }
 
-            economyRepository.findByUser(user).ifPresentOrElse(userBalance -> {
+            long userId = userIdResolver.resolveOrCreate(uuid);
+
+            economyRepository.findByUserId(userId).ifPresentOrElse(userBalance -> {
                 userBalance.setBalance(balance);
                 economyRepository.save(userBalance);
             }, () -> {
-                EconomyDto userBalanceDto = new EconomyDto(user, balance);
+                EconomyDto userBalanceDto = new EconomyDto(userRepository.getReferenceById(userId), balance);
                 Economy newUserBalance = new Economy(userBalanceDto);
                 economyRepository.save(newUserBalance);
             });
@@ -95,9 +129,18 @@ public class EconomyService {
      * @return the user's balance.
      */
     public double getBalance(@NotNull final UUID uuid) {
-        return userRepository.findByUuid(uuid.toString())
-                .map(user -> economyRepository.findByUser(user).map(Economy::getBalance).orElse(0.0))
-                .orElse(0.0);
+        PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+        if (aggregate != null) {
+            Economy economy = aggregate.getEconomy();
+            return economy == null ? 0.0 : economy.getBalance();
+        }
+
+        OptionalLong userId = userIdResolver.resolve(uuid);
+        if (userId.isEmpty()) {
+            return 0.0;
+        }
+
+        return economyRepository.findByUserId(userId.getAsLong()).map(Economy::getBalance).orElse(0.0);
     }
 
     /**
@@ -122,6 +165,40 @@ public class EconomyService {
         return setBalance(uuid, getBalance(uuid) - amount);
     }
 
+    /**
+     * Removes a specified amount from a user's balance if the balance covers it.
+     *
+     * <p>Unlike {@link #removeBalance(UUID, double)}, the balance is checked and changed by a single conditional
+     * update in the database, so concurrent debits of the same user can neither overdraw the balance nor lose
+     * updates. The balance of the attached {@link PlayerAggregate} is read again afterwards.</p>
+     *
+     * @param uuid the UUID of the user.
+     * @param amount the amount to remove from the balance, must be positive.
+     * @return an {@link Optional} containing a {@link BalanceFailReason} if the operation fails, or empty if successful.
+     */
+    public Optional<BalanceFailReason> debitBalance(@NotNull final UUID uuid, final double amount) {
+        if (!(amount > 0) || Double.isInfinite(amount)) {
+            return Optional.of(BalanceFailReason.INVALID_AMOUNT);
+        }
+
+        try {
+            OptionalLong userId = userIdResolver.resolve(uuid);
+            if (userId.isEmpty() || economyRepository.debitBalance(userId.getAsLong(), amount) == 0) {
+                return Optional.of(BalanceFailReason.INSUFFICIENT_FUNDS);
+            }
+
+            PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+            Economy economy = aggregate == null ? null : aggregate.getEconomy();
+            if (economy != null) {
+                economyRepository.findBalanceById(economy.getId()).ifPresent(economy::setBalance);
+            }
+        } catch (Exception e) {
+            return Optional.of(BalanceFailReason.UNKNOWN);
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Checks if a user has a balance greater than or equal to a specified amount.
      *
@@ -182,6 +259,7 @@ public class EconomyService {
      */
     public void resetAllBalances() {
         userRepository.findAll().forEach(user -> economyRepository.findByUser(user).ifPresent(economyRepository::delete));
+        playerAggregateService.forEachOnline(aggregate -> aggregate.setEconomy(null));
     }
 
     /**
@@ -191,7 +269,13 @@ public class EconomyService {
      * @return {@code true} if the user has a bank account, {@code false} otherwise.
      */
     public boolean hasBankAccount(@NotNull final UUID uuid) {
-        return bankRepository.findByUser(userRepository.findByUuid(uuid.toString()).orElse(null)).isPresent();
+        PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+        if (aggregate != null) {
+            return aggregate.getBank() != null;
+        }
+
+        OptionalLong userId = userIdResolver.resolve(uuid);
+        return userId.isPresent() && bankRepository.existsByUserId(userId.getAsLong());
     }
 
     /**
@@ -200,19 +284,103 @@ public class EconomyService {
      * @param uuid the UUID of the user.
      */
     public void createBankAccount(@NotNull final UUID uuid) {
-        User user = userRepository.findByUuid(uuid.toString()).orElseGet(() -> {
-            UserDto userDto = new UserDto(uuid.toString(), System.currentTimeMillis(), "Default", false);
-            User newUser = new User(userDto);
-            return userRepository.save(newUser);
-        });
-
-        Optional<Bank> bank = bankRepository.findByUser(user);
-        if (bank.isPresent()) {
+        PlayerAggregate aggregate = playerAggregateService.getOnline(uuid);
+        if (aggregate != null) {
+            if (aggregate.getBank() == null) {
+                aggregate.setBank(bankRepository.save(createBank(aggregate.getUser(), uuid)));
+            }
             return;
         }
 
+        long userId = userIdResolver.resolveOrCreate(uuid);
+        if (bankRepository.existsByUserId(userId)) {
+            return;
+        }
+
+        bankRepository.save(createBank(userRepository.getReferenceById(userId), uuid));
+    }
+
+    /**
+     * Creates a new basic bank account for the specified user.
+     *
+     * @param user the user that owns the bank account.
+     * @param uuid the UUID of the user.
+     * @return the new, not yet persisted bank account.
+     */
+    private Bank createBank(@NotNull final User user, @NotNull final UUID uuid) {
         BankDto bankDto = new BankDto(user, "District City Bank", BankType.BASIC, Iban.createRandomDistrictIban(uuid), new Bic("DSTCDEFFXXX"));
-        Bank newBank = new Bank(bankDto);
-        bankRepository.save(newBank);
+        return new Bank(bankDto);
+    }
+
+    /**
+     * Sets the balance of an online player and writes only the balance back to the database.
+     *
+     * @param aggregate the aggregate of the player.
+     * @param balance the balance to set.
+     */
+    private void setBalance(@NotNull final PlayerAggregate aggregate, final double balance) {
+        Economy economy = aggregate.getEconomy();
+        if (economy != null) {
+            economyRepository.updateBalance(economy.getId(), balance);
+            economy.setBalance(balance);
+            return;
+        }
+
+        EconomyDto userBalanceDto = new EconomyDto(aggregate.getUser(), balance);
+        aggregate.setEconomy(economyRepository.save(new Economy(userBalanceDto)));
+    }
+
+    /**
+     * Retrieves a single page of bank accounts that belong to the specified provider, ordered by their identifier.
+     *
+     * <p>Only the requested page is loaded from the database, so this method is safe to use for providers
+     * with a large amount of customers.</p>
+     *
+     * @param provider the bank provider.
+     * @param page the zero-based index of the page.
+     * @param pageSize the amount of bank accounts per page.
+     * @return a {@link Slice} containing the bank accounts of the requested page.
+     */
+    public Slice<Bank> getBankCustomers(@NotNull final String provider, final int page, final int pageSize) {
+        return bankRepository.findByProvider(provider, PageRequest.of(page, pageSize, Sort.by("id")));
+    }
+
+    /**
+     * Retrieves the bank accounts that belong to the specified provider and follow the specified bank account,
+     * ordered by their identifier.
+     *
+     * <p>Unlike {@link #getBankCustomers(String, int, int)}, the page is addressed by the identifier of the last
+     * bank account of the previous page, so the cost of a page does not grow with its position.</p>
+     *
+     * @param provider the bank provider.
+     * @param afterId the identifier of the last bank account of the previous page, or {@code null} for the first page.
+     * @param limit the maximum amount of bank accounts.
+     * @return the bank accounts following the specified identifier.
+     */
+    public List<Bank> getBankCustomersAfter(@NotNull final String provider, @Nullable final Long afterId, final int limit) {
+        return bankRepository.findByProviderAndIdGreaterThanOrderByIdAsc(provider, afterId == null ? Long.MIN_VALUE : afterId, Limit.of(limit));
+    }
+
+    /**
+     * Passes every bank account that belongs to the specified provider to the given consumer.
+     *
+     * <p>The bank accounts are streamed from the database and the persistence context is cleared periodically,
+     * so the memory usage stays constant regardless of the amount of customers. The entities passed to the
+     * consumer are read-only and must not be kept after the consumer returns.</p>
+     *
+     * @param provider the bank provider.
+     * @param consumer the consumer that is called for every bank account.
+     */
+    @Transactional(readOnly = true)
+    public void forEachBankCustomer(@NotNull final String provider, @NotNull final Consumer<Bank> consumer) {
+        try (Stream<Bank> banks = bankRepository.streamByProvider(provider)) {
+            int processed = 0;
+            for (Bank bank : (Iterable<Bank>) banks::iterator) {
+                consumer.accept(bank);
+                if (++processed % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
     }
 }
@@ -9,6 +9,7 @@ import de.district.core.DistrictRoleplay;
 import de.district.core.character.service.CharacterService;
 import de.district.core.character.util.Gender;
 import de.district.core.location.service.LocationFindingService;
+import de.district.core.user.aggregate.PlayerAggregate;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -36,6 +37,13 @@ import java.util.UUID;
 public class CorePluginPlayer extends CorePluginOfflinePlayer implements PluginPlayer {
     private final Player player;
     private boolean aduty = false;
+    private volatile int flags;
+    private volatile PlayerAggregate aggregate;
+    /**
+     * The buffer the position of the player is copied into for proximity checks, so they do not allocate.
+     * Like the rest of the Bukkit entity API, it must only be used from the main thread.
+     */
+    private final Location positionBuffer = new Location(null, 0, 0, 0);
 
     /**
      * Constructs a new {@code CorePluginPlayer} instance for the specified {@link Player}.
@@ -182,46 +190,84 @@ public class CorePluginPlayer extends CorePluginOfflinePlayer implements PluginP
     }
 
     /**
-     * Finds all nearby banks within the specified radius. This method is currently unimplemented.
+     * Retrieves the flags of this player.
+     *
+     * <p>The flags control the behavior of the plugin for this player during the current session.</p>
+     *
+     * @return the flags of this player.
+     */
+    public int getFlags() {
+        return this.flags;
+    }
+
+    /**
+     * Sets the flags of this player.
+     *
+     * @param flags the flags to set.
+     */
+    public void setFlags(final int flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Retrieves the persistent state of this player that has been loaded during pre-login.
+     *
+     * @return the aggregate of this player, or {@code null} if it has not been loaded.
+     * @see de.district.core.user.aggregate.PlayerAggregateService
+     */
+    public @Nullable PlayerAggregate getAggregate() {
+        return this.aggregate;
+    }
+
+    /**
+     * Attaches the persistent state of this player to this session.
+     *
+     * @param aggregate the aggregate of this player.
+     */
+    public void setAggregate(@Nullable final PlayerAggregate aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    /**
+     * Finds all banks within the specified radius around the player.
      *
      * @param radius the radius within which to search for nearby banks.
-     * @return an empty list as this method is not yet implemented.
+     * @return the nearby banks, ordered by ascending distance.
      */
     @Override
     public List<GameBank> findNearbyBanks(final double radius) {
-        LocationFindingService lfs = DistrictAPI.getBean(LocationFindingService.class);
-        return List.of();
+        return DistrictAPI.getBean(LocationFindingService.class).findNearbyBanks(this.player.getLocation(), radius);
     }
 
     /**
-     * Finds the nearest bank to the player's location. This method is currently unimplemented.
+     * Finds the bank nearest to the player in the player's world.
      *
-     * @return an {@link Optional} containing no value as this method is not yet implemented.
+     * @return an {@link Optional} containing the nearest bank, or empty if there is no bank in the world.
      */
     @Override
     public Optional<GameBank> findNearestBank() {
-        return Optional.empty();
+        return DistrictAPI.getBean(LocationFindingService.class).findNearestBank(this.player.getLocation());
     }
 
     /**
-     * Finds all nearby ATMs within the specified radius. This method is currently unimplemented.
+     * Finds all ATMs within the specified radius around the player.
      *
      * @param radius the radius within which to search for nearby ATMs.
-     * @return an empty list as this method is not yet implemented.
+     * @return the nearby ATMs, ordered by ascending distance.
      */
     @Override
     public List<GameAtm> findNearbyAtms(final double radius) {
-        return List.of();
+        return DistrictAPI.getBean(LocationFindingService.class).findNearbyAtms(this.player.getLocation(), radius);
     }
 
     /**
-     * Finds the nearest ATM to the player's location. This method is currently unimplemented.
+     * Finds the ATM nearest to the player in the player's world.
      *
-     * @return an {@link Optional} containing no value as this method is not yet implemented.
+     * @return an {@link Optional} containing the nearest ATM, or empty if there is no ATM in the world.
      */
     @Override
     public Optional<GameAtm> findNearestAtm() {
-        return Optional.empty();
+        return DistrictAPI.getBean(LocationFindingService.class).findNearestAtm(this.player.getLocation());
     }
 
     /**
@@ -235,7 +281,11 @@ public class CorePluginPlayer extends CorePluginOfflinePlayer implements PluginP
      */
     @Override
     public boolean isNearByLocation(final double x, final double y, final double z, final double radius) {
-        return this.player.getLocation().distance(new Location(this.player.getWorld(), x, y, z)) <= radius;
+        Location position = this.player.getLocation(this.positionBuffer);
+        double dx = position.getX() - x;
+        double dy = position.getY() - y;
+        double dz = position.getZ() - z;
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
     }
 
     /**
@@ -247,6 +297,6 @@ public class CorePluginPlayer extends CorePluginOfflinePlayer implements PluginP
      */
     @Override
     public boolean isNearByLocation(final de.district.api.location.Location location, final double radius) {
-        return this.player.getLocation().distance(location.toBukkitLocation()) <= radius;
+        return location.isWithin(this.player.getLocation(this.positionBuffer), radius);
     }
 }
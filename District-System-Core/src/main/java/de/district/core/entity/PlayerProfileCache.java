@@ -0,0 +1,120 @@
+package de.district.core.entity;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import de.district.core.DistrictRoleplay;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code PlayerProfileCache} class keeps the textured {@link PlayerProfile} of every online player, so player
+ * heads in menus can be built without a profile lookup.
+ *
+ * <p>The profile of a player is captured when the player joins. Profiles received without textures are completed
+ * asynchronously and only become available once the lookup has finished; until then {@link #createHead(Player)}
+ * returns an untextured head. Profiles are dropped when the player quits.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @since 1.0.0
+ */
+@Service
+public class PlayerProfileCache implements Listener {
+
+    private final Map<UUID, PlayerProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Caches the profiles of all players that are already online, e.g. after the plugin has been reloaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cacheOnlinePlayers() {
+        Bukkit.getOnlinePlayers().forEach(this::cache);
+    }
+
+    /**
+     * Handles the {@link PlayerJoinEvent} and caches the profile of the player.
+     *
+     * @param event the event that is triggered when a player joins the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        cache(event.getPlayer());
+    }
+
+    /**
+     * Handles the {@link PlayerQuitEvent} and drops the profile of the player.
+     *
+     * @param event the event that is triggered when a player leaves the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.profiles.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Retrieves the cached profile of the player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the textured profile of the player, or {@code null} if it is not cached (yet).
+     */
+    public @Nullable PlayerProfile get(@NotNull final UUID uuid) {
+        return this.profiles.get(uuid);
+    }
+
+    /**
+     * Creates a player head showing the skin of the specified player. The head never triggers a profile lookup, it
+     * is untextured if the profile of the player has not been cached yet.
+     *
+     * @param player the player whose head should be created.
+     * @return the player head.
+     */
+    public @NotNull ItemStack createHead(@NotNull final Player player) {
+        ItemStack head = new ItemStack(Material.PLAYER_HEAD);
+        PlayerProfile profile = this.profiles.get(player.getUniqueId());
+        if (profile != null && head.getItemMeta() instanceof SkullMeta meta) {
+            meta.setPlayerProfile(profile);
+            head.setItemMeta(meta);
+        }
+        return head;
+    }
+
+    private void cache(@NotNull final Player player) {
+        PlayerProfile profile = player.getPlayerProfile();
+        if (profile.hasTextures()) {
+            this.profiles.put(player.getUniqueId(), profile);
+            return;
+        }
+
+        Plugin plugin = JavaPlugin.getPlugin(DistrictRoleplay.class);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            if (!profile.complete(true)) {
+                return;
+            }
+            // The player may have quit while the profile was looked up.
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (player.isOnline()) {
+                    this.profiles.put(player.getUniqueId(), profile);
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package de.district.core.entity;
+
+import de.district.core.DistrictRoleplay;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code PlayerSessionRegistry} class keeps exactly one {@link CorePluginPlayer} per online player.
+ *
+ * <p>A session is opened when a player joins and closed when the player quits. In between, every lookup through
+ * {@link de.district.api.DistrictAPI#getPluginPlayer(Player)} returns the same instance, so session state such as the
+ * admin duty status or the player flags is kept across calls. Sessions can be looked up in constant time by
+ * {@link UUID} and by case-insensitive name.</p>
+ *
+ * <p>Once a player quits, the player is marked as quitting before the session is closed. Lookups of a quitting
+ * player, e.g. by a later quit handler or by an async task, get a detached {@link CorePluginPlayer} and never
+ * re-open the session. The mark is cleared on the tick after the quit, once the player is no longer online, and
+ * at the latest when the player logs in again.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see CorePluginPlayer
+ * @since 1.0.0
+ */
+@Service
+public class PlayerSessionRegistry implements Listener {
+
+    private final Map<UUID, CorePluginPlayer> sessionsByUuid = new ConcurrentHashMap<>();
+    private final Map<String, CorePluginPlayer> sessionsByName = new ConcurrentHashMap<>();
+    /**
+     * The players that are quitting the server, for whom no session may be opened until the quit has completed.
+     */
+    private final Set<UUID> quitting = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Opens a session for every player that is already online, e.g. after the plugin has been reloaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void openOnlineSessions() {
+        Bukkit.getOnlinePlayers().forEach(this::getOrOpen);
+    }
+
+    /**
+     * Handles the {@link PlayerLoginEvent} and clears the quitting mark of the player, if it is still set, so the
+     * session can be opened on join.
+     *
+     * @param event the event that is triggered when a player logs in.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerLogin(final PlayerLoginEvent event) {
+        this.quitting.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Handles the {@link PlayerJoinEvent} and opens the session of the player.
+     *
+     * @param event the event that is triggered when a player joins the server.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        getOrOpen(event.getPlayer());
+    }
+
+    /**
+     * Handles the {@link PlayerQuitEvent}, marks the player as quitting and closes the session of the player.
+     *
+     * @param event the event that is triggered when a player leaves the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        this.quitting.add(uuid);
+        close(uuid);
+
+        // Once the quit has completed the player is offline, so the mark is not needed anymore.
+        Plugin plugin = JavaPlugin.getPlugin(DistrictRoleplay.class);
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> this.quitting.remove(uuid));
+        }
+    }
+
+    /**
+     * Retrieves the session of the specified player and opens it if the player does not have one yet.
+     *
+     * <p>Sessions are only opened for online players that are not quitting. For all other players a detached
+     * {@link CorePluginPlayer} is returned that is not registered.</p>
+     *
+     * @param player the player whose session should be retrieved.
+     * @return the session of the player, never {@code null}.
+     */
+    public @NotNull CorePluginPlayer getOrOpen(@NotNull final Player player) {
+        CorePluginPlayer session = this.sessionsByUuid.get(player.getUniqueId());
+        if (session != null) {
+            return session;
+        }
+        if (!player.isOnline() || this.quitting.contains(player.getUniqueId())) {
+            return new CorePluginPlayer(player);
+        }
+
+        // the quitting mark is checked again while the entry is locked, so a concurrent quit cannot be missed
+        session = this.sessionsByUuid.computeIfAbsent(player.getUniqueId(), uuid -> {
+            if (this.quitting.contains(uuid)) {
+                return null;
+            }
+            CorePluginPlayer opened = new CorePluginPlayer(player);
+            this.sessionsByName.put(toKey(player.getName()), opened);
+            return opened;
+        });
+        return session == null ? new CorePluginPlayer(player) : session;
+    }
+
+    /**
+     * Closes the session of the specified player.
+     *
+     * @param uuid the UUID of the player.
+     */
+    public void close(@NotNull final UUID uuid) {
+        CorePluginPlayer session = this.sessionsByUuid.remove(uuid);
+        if (session != null) {
+            this.sessionsByName.remove(toKey(session.getName()), session);
+        }
+    }
+
+    /**
+     * Retrieves the session of the player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the session of the player, or {@code null} if the player is not online.
+     */
+    public @Nullable CorePluginPlayer get(@NotNull final UUID uuid) {
+        return this.sessionsByUuid.get(uuid);
+    }
+
+    /**
+     * Retrieves the session of the player with the specified name. The comparison is case-insensitive.
+     *
+     * @param name the name of the player.
+     * @return the session of the player, or {@code null} if the player is not online.
+     */
+    public @Nullable CorePluginPlayer get(@NotNull final String name) {
+        return this.sessionsByName.get(toKey(name));
+    }
+
+    /**
+     * Retrieves all open sessions.
+     *
+     * @return an unmodifiable view of all open sessions.
+     */
+    public @NotNull Collection<CorePluginPlayer> getSessions() {
+        return Collections.unmodifiableCollection(this.sessionsByUuid.values());
+    }
+
+    /**
+     * Sets the flags of the player with the specified UUID. The flags are discarded if the player is not online.
+     *
+     * @param uuid  the UUID of the player.
+     * @param flags the flags to set.
+     */
+    public void setFlags(@NotNull final UUID uuid, final int flags) {
+        CorePluginPlayer session = this.sessionsByUuid.get(uuid);
+        if (session != null) {
+            session.setFlags(flags);
+        }
+    }
+
+    /**
+     * Retrieves the flags of the player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the flags of the player, or {@code 0} if the player is not online.
+     */
+    public int getFlags(@NotNull final UUID uuid) {
+        CorePluginPlayer session = this.sessionsByUuid.get(uuid);
+        return session == null ? 0 : session.getFlags();
+    }
+
+    /**
+     * Closes all open sessions.
+     */
+    public void clear() {
+        this.sessionsByUuid.clear();
+        this.sessionsByName.clear();
+        this.quitting.clear();
+    }
+
+    private static String toKey(@NotNull final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,65 +1,139 @@
 package de.district.core.location;
 
+import de.district.api.location.LocationType;
 import de.district.api.location.interaction.Interactable;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * The {@code InteractionHolder} class is a container for managing a list of {@link Interactable} objects.
- * It provides methods for adding, removing, and checking interactions within the game environment.
+ * The {@code InteractionHolder} class is a registry for {@link Interactable} objects, partitioned by the
+ * {@link LocationType} they belong to. It provides methods for adding, removing, and checking interactions within
+ * the game environment.
  *
- * <p>This class is implemented as a Java record, which provides a compact syntax for defining immutable data
- * containers. However, in this case, the {@code InteractionHolder} is mutable due to the operations provided
- * on the contained list of interactions.</p>
+ * <p>The interactables are kept in an immutable snapshot that maps every {@link LocationType} to an array of its
+ * interactables. The snapshot is rebuilt whenever an interactable is added or removed, which only happens during
+ * startup and shutdown. Looking up the interactables of a location type is a single map access that returns the
+ * array without copying, so dispatching an interaction does not allocate.</p>
+ *
+ * <p>This class is thread-safe.</p>
  *
- * @param interactions the list of {@link Interactable} objects managed by this holder.
  * @author Erik Pförtner
  * @see Interactable
  * @since 1.0.0
  */
-public record InteractionHolder(List<Interactable> interactions) {
+public final class InteractionHolder {
+
+    private static final Interactable[] NONE = new Interactable[0];
+
+    private volatile Map<LocationType, Interactable[]> interactions = Collections.emptyMap();
 
     /**
-     * Adds a new {@link Interactable} to the list of interactions.
+     * Adds a new {@link Interactable} to the registry.
      *
      * @param interactable the interactable object to add.
      */
-    public void addInteraction(final Interactable interactable) {
-        this.interactions.add(interactable);
+    public synchronized void addInteraction(@NotNull final Interactable interactable) {
+        Map<LocationType, Interactable[]> updated = copy();
+        Interactable[] current = updated.getOrDefault(interactable.getLocationType(), NONE);
+        Interactable[] appended = Arrays.copyOf(current, current.length + 1);
+        appended[current.length] = interactable;
+        updated.put(interactable.getLocationType(), appended);
+        this.interactions = updated;
     }
 
     /**
-     * Removes an {@link Interactable} from the list of interactions.
+     * Removes an {@link Interactable} from the registry.
      *
      * @param interactable the interactable object to remove.
      */
-    public void removeInteraction(final Interactable interactable) {
-        this.interactions.remove(interactable);
+    public synchronized void removeInteraction(@NotNull final Interactable interactable) {
+        Interactable[] current = this.interactions.get(interactable.getLocationType());
+        if (current == null) {
+            return;
+        }
+
+        Interactable[] remaining = Arrays.stream(current)
+                .filter(registered -> !registered.equals(interactable))
+                .toArray(Interactable[]::new);
+        if (remaining.length == current.length) {
+            return;
+        }
+
+        Map<LocationType, Interactable[]> updated = copy();
+        if (remaining.length == 0) {
+            updated.remove(interactable.getLocationType());
+        } else {
+            updated.put(interactable.getLocationType(), remaining);
+        }
+        this.interactions = updated;
+    }
+
+    /**
+     * Clears all interactions from the registry.
+     */
+    public synchronized void clearInteractions() {
+        this.interactions = Collections.emptyMap();
     }
 
     /**
-     * Clears all interactions from the list.
+     * Retrieves the interactables registered for the specified location type.
+     *
+     * <p>The returned array is shared and must not be modified.</p>
+     *
+     * @param type the location type.
+     * @return the interactables of the location type, or an empty array if there are none.
      */
-    public void clearInteractions() {
-        this.interactions.clear();
+    public @NotNull Interactable[] getInteractions(@NotNull final LocationType type) {
+        Interactable[] registered = this.interactions.get(type);
+        return registered == null ? NONE : registered;
     }
 
     /**
-     * Checks if there are any interactions in the list.
+     * Retrieves all registered interactables.
      *
-     * @return {@code true} if there is at least one interaction in the list, {@code false} otherwise.
+     * @return an unmodifiable list of all registered interactables.
+     */
+    public @NotNull List<Interactable> interactions() {
+        List<Interactable> all = new ArrayList<>();
+        for (Interactable[] registered : this.interactions.values()) {
+            Collections.addAll(all, registered);
+        }
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Checks if there are any interactions in the registry.
+     *
+     * @return {@code true} if there is at least one interaction in the registry, {@code false} otherwise.
      */
     public boolean hasInteractions() {
         return !this.interactions.isEmpty();
     }
 
     /**
-     * Checks if a specific {@link Interactable} is present in the list of interactions.
+     * Checks if a specific {@link Interactable} is present in the registry.
      *
      * @param interactable the interactable object to check for.
-     * @return {@code true} if the interactable is in the list, {@code false} otherwise.
+     * @return {@code true} if the interactable is in the registry, {@code false} otherwise.
      */
-    public boolean hasInteraction(final Interactable interactable) {
-        return this.interactions.contains(interactable);
+    public boolean hasInteraction(@NotNull final Interactable interactable) {
+        for (Interactable registered : getInteractions(interactable.getLocationType())) {
+            if (registered.equals(interactable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<LocationType, Interactable[]> copy() {
+        Map<LocationType, Interactable[]> copy = new EnumMap<>(LocationType.class);
+        copy.putAll(this.interactions);
+        return copy;
     }
 }
@@ -0,0 +1,120 @@
+package de.district.core.location.command;
+
+import de.district.api.DistrictAPI;
+import de.district.api.command.PluginCommandExecutor;
+import de.district.api.command.PluginCommandSender;
+import de.district.api.command.PluginTabCompleter;
+import de.district.api.command.annotation.Required;
+import de.district.core.DistrictRoleplay;
+import de.district.core.location.transfer.LocationFileFormat;
+import de.district.core.location.transfer.LocationImportResult;
+import de.district.core.location.transfer.LocationTransferService;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Imports locations from or exports locations to a JSON or CSV file in the {@code locations} folder of the plugin
+ * data folder. The file is processed asynchronously.
+ *
+ * <p>Usage: {@code /locationtransfer <import|export> <Datei>}</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationTransferService
+ * @since 1.0.0
+ */
+@Required(permissions = "district.location.transfer")
+public class LocationTransferCommand implements PluginCommandExecutor, PluginTabCompleter {
+
+    @Override
+    public boolean onCommand(@NotNull PluginCommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length != 2 || !(args[0].equalsIgnoreCase("import") || args[0].equalsIgnoreCase("export"))) {
+            sender.sendMessage(Component.text("§cVerwendung: /" + label + " <import|export> <Datei>"));
+            return false;
+        }
+
+        LocationTransferService transferService = DistrictAPI.getBean(LocationTransferService.class);
+        Path file;
+        try {
+            file = transferService.resolve(args[1]);
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(Component.text("§c" + e.getMessage()));
+            return false;
+        }
+
+        Plugin plugin = JavaPlugin.getPlugin(DistrictRoleplay.class);
+        if (args[0].equalsIgnoreCase("import")) {
+            Map<String, LocationTransferService.WorldBounds> worlds = LocationTransferService.captureWorlds();
+            sender.sendMessage(Component.text("§7Der Import von §e" + args[1] + " §7wurde gestartet."));
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    LocationImportResult result = transferService.importLocations(file, worlds);
+                    Bukkit.getScheduler().runTask(plugin, () -> report(sender, result));
+                } catch (IOException | RuntimeException e) {
+                    Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                            Component.text("§cDer Import ist fehlgeschlagen: " + e.getMessage())));
+                }
+            });
+        } else {
+            sender.sendMessage(Component.text("§7Der Export nach §e" + args[1] + " §7wurde gestartet."));
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    int exported = transferService.exportLocations(file);
+                    Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                            Component.text("§aEs wurden §e" + exported + " §aOrte exportiert.")));
+                } catch (IOException | RuntimeException e) {
+                    Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                            Component.text("§cDer Export ist fehlgeschlagen: " + e.getMessage())));
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public @Nullable List<String> onTabComplete(@NotNull PluginCommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        if (args.length <= 1) {
+            return List.of("import", "export");
+        }
+        if (args.length != 2 || !args[0].equalsIgnoreCase("import")) {
+            return List.of();
+        }
+
+        File[] files = new File(DistrictAPI.getDataFolder(), LocationTransferService.DIRECTORY).listFiles();
+        List<String> suggestions = new ArrayList<>();
+        if (files == null) {
+            return suggestions;
+        }
+        String prefix = args[1].toLowerCase(Locale.ROOT);
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isFile() && name.toLowerCase(Locale.ROOT).startsWith(prefix) && LocationFileFormat.fromFileName(name).isPresent()) {
+                suggestions.add(name);
+            }
+        }
+        return suggestions;
+    }
+
+    private static void report(@NotNull final PluginCommandSender sender, @NotNull final LocationImportResult result) {
+        sender.sendMessage(Component.text("§aEs wurden §e" + result.imported() + " §aOrte importiert."));
+        if (result.rejected() == 0) {
+            return;
+        }
+        sender.sendMessage(Component.text("§c" + result.rejected() + " Einträge wurden übersprungen:"), false);
+        for (String error : result.errors()) {
+            sender.sendMessage(Component.text("§8- §7" + error), false);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package de.district.core.location.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code LocationConfiguration} class is a Spring component that holds the configuration properties
+ * for the locations within the plugin. This class uses the prefix "plugin.location" to map properties from the
+ * application's configuration file.
+ *
+ * <pre>
+ * plugin:
+ *   location:
+ *     proximity-radius: 8.0
+ *     import-batch-size: 500
+ *     interaction-cooldown: 500
+ * </pre>
+ *
+ * @see ConfigurationProperties
+ * @see Component
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "plugin.location")
+public class LocationConfiguration {
+
+    /**
+     * The radius in blocks around a location within which a player is considered to be at the location.
+     *
+     * <p>Players entering or leaving this radius trigger a {@link de.district.api.event.location.LocationEnterEvent}
+     * or a {@link de.district.api.event.location.LocationLeaveEvent}.</p>
+     */
+    private double proximityRadius = 8.0;
+
+    /**
+     * The amount of locations that are written within one batch and one transaction during an import.
+     */
+    private int importBatchSize = 500;
+
+    /**
+     * The time in milliseconds a player has to wait after interacting before the next interaction with a location
+     * is processed.
+     *
+     * <p>Holding the use key fires interactions repeatedly, so without a cooldown every held click would open the
+     * interaction of a location again.</p>
+     */
+    private long interactionCooldown = 500;
+}
@@ -14,28 +14,41 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.hibernate.proxy.HibernateProxy;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.util.Objects;
 
 /**
  * The {@code BaseLocationEntity} class serves as the abstract base class for all location entities in the system.
- * It is mapped to the {@code locations} table in the database, and it uses a single-table inheritance strategy to
+ * It is mapped to the {@code locations} table in the database, and it uses a joined inheritance strategy to
  * accommodate various types of locations.
  *
  * <p>This class implements the {@link Location} interface and provides common properties and methods that are shared
  * among different types of location entities. Subclasses of {@code BaseLocationEntity} represent specific types of locations
  * and are distinguished in the database by the {@code location_type} discriminator column.</p>
  *
+ * <p>With the joined strategy a polymorphic query joins the {@code locations} table with the tables of all
+ * subclasses, so queries whose location type is known should go through the typed repositories via the
+ * {@link de.district.core.location.repository.LocationRepositoryRouter}. A single-table strategy would avoid the
+ * joins entirely, but requires all subclass columns to be nullable and a migration of the existing tables, so it
+ * should only be adopted once a benchmark against the production data set shows the joins to be significant.</p>
+ *
  * <p>The class is annotated with Lombok annotations to generate boilerplate code such as getters, setters,
  * a no-argument constructor, and a {@code toString} method. It also includes methods for converting between the
  * {@code BaseLocationEntity} entity and data transfer objects (DTOs) such as {@link BaseLocationEntityDto} and {@link CoordinateDto}.</p>
@@ -51,7 +64,7 @@ import java.util.Objects;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "locations")
+@Table(name = "locations", indexes = @Index(name = "idx_locations_world_x_z", columnList = "world, x, z"))
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "location_type")
 public abstract class BaseLocationEntity implements Location {
@@ -102,6 +115,24 @@ public abstract class BaseLocationEntity implements Location {
     @Dto(order = 3, value = "Coordinate")
     private double z;
 
+    /**
+     * The version of the location, used for optimistic locking. Hibernate only supports a version on the root of an
+     * inheritance hierarchy, so the version of all subclasses is declared here.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long version;
+
+    /**
+     * The Bukkit world of this location, resolved on first use. The reference is weak, so an unloaded world can be
+     * garbage collected; the world is resolved again by its name once the reference has been cleared.
+     */
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private WeakReference<World> worldReference;
+
     /**
      * Constructs a new {@code BaseLocationEntity} entity based on the provided {@link BaseLocationEntityDto} and {@link CoordinateDto}.
      *
@@ -125,7 +156,7 @@ public abstract class BaseLocationEntity implements Location {
         Validations.assertThat(baseLocationEntityDto).isNotNull();
 
         this.name = baseLocationEntityDto.getName();
-        this.world = baseLocationEntityDto.getWorld();
+        setWorld(baseLocationEntityDto.getWorld());
         this.type = baseLocationEntityDto.getType();
     }
 
@@ -200,9 +231,38 @@ public abstract class BaseLocationEntity implements Location {
         return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
     }
 
+    /**
+     * Sets the world in which this location is situated and discards the cached Bukkit world.
+     *
+     * @param world the name of the world.
+     */
+    public void setWorld(final String world) {
+        this.world = world;
+        this.worldReference = null;
+    }
+
+    /**
+     * Retrieves the Bukkit world of this location. The world is looked up by its name once and cached afterwards.
+     *
+     * @return the Bukkit world, or {@code null} if the world is not loaded.
+     */
+    public @Nullable World getBukkitWorld() {
+        WeakReference<World> reference = this.worldReference;
+        World cached = reference == null ? null : reference.get();
+        if (cached != null) {
+            return cached;
+        }
+
+        World resolved = Bukkit.getWorld(this.world);
+        if (resolved != null) {
+            this.worldReference = new WeakReference<>(resolved);
+        }
+        return resolved;
+    }
+
     @Override
     @NotNull
     public org.bukkit.Location toBukkitLocation() {
-        return new org.bukkit.Location(Bukkit.getWorld(this.world), this.x, this.y, this.z);
+        return new org.bukkit.Location(getBukkitWorld(), this.x, this.y, this.z);
     }
 }
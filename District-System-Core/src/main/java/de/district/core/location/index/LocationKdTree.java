@@ -0,0 +1,175 @@
+package de.district.core.location.index;
+
+import de.district.api.location.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code LocationKdTree} class is an immutable three-dimensional k-d tree over the coordinates of a set of
+ * locations. It answers radius and k-nearest-neighbour queries in logarithmic time on average.
+ *
+ * <p>The tree is stored implicitly in a single array: the median of every range is the node of that range, the
+ * elements before it form the left and the elements after it the right subtree. The splitting axis cycles through
+ * x, y and z with the depth of the node.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationSpatialIndex
+ * @since 1.0.0
+ */
+final class LocationKdTree {
+
+    private static final int DIMENSIONS = 3;
+    private static final List<Comparator<Location>> AXIS_ORDER = List.of(
+            Comparator.comparingDouble(Location::getX),
+            Comparator.comparingDouble(Location::getY),
+            Comparator.comparingDouble(Location::getZ));
+
+    private final Location[] nodes;
+
+    /**
+     * Builds a new {@code LocationKdTree} over the specified locations.
+     *
+     * @param locations the locations to index. The array is copied.
+     */
+    LocationKdTree(@NotNull final Location[] locations) {
+        this.nodes = Arrays.copyOf(locations, locations.length);
+        build(0, this.nodes.length, 0);
+    }
+
+    /**
+     * Retrieves the amount of locations in this tree.
+     *
+     * @return the amount of locations.
+     */
+    int size() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Collects all locations within the specified radius around the given position.
+     *
+     * @param x      the x-coordinate of the position.
+     * @param y      the y-coordinate of the position.
+     * @param z      the z-coordinate of the position.
+     * @param radius the radius around the position.
+     * @param result the list the matching locations are added to.
+     */
+    void collectWithin(final double x, final double y, final double z, final double radius, @NotNull final List<Location> result) {
+        collectWithin(0, this.nodes.length, 0, x, y, z, radius, radius * radius, result);
+    }
+
+    /**
+     * Finds the {@code k} locations closest to the given position.
+     *
+     * @param x the x-coordinate of the position.
+     * @param y the y-coordinate of the position.
+     * @param z the z-coordinate of the position.
+     * @param k the maximum amount of locations to find.
+     * @return the closest locations, ordered by ascending distance.
+     */
+    @NotNull
+    List<Location> nearest(final double x, final double y, final double z, final int k) {
+        if (k <= 0 || this.nodes.length == 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Candidate::distanceSquared).reversed());
+        nearest(0, this.nodes.length, 0, x, y, z, k, candidates);
+
+        List<Location> result = new ArrayList<>(candidates.size());
+        while (!candidates.isEmpty()) {
+            result.add(candidates.poll().location());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void build(final int from, final int to, final int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+
+        Arrays.sort(this.nodes, from, to, AXIS_ORDER.get(depth % DIMENSIONS));
+        int median = (from + to) >>> 1;
+        build(from, median, depth + 1);
+        build(median + 1, to, depth + 1);
+    }
+
+    private void collectWithin(final int from, final int to, final int depth,
+                               final double x, final double y, final double z,
+                               final double radius, final double radiusSquared,
+                               @NotNull final List<Location> result) {
+        if (from >= to) {
+            return;
+        }
+
+        int median = (from + to) >>> 1;
+        Location node = this.nodes[median];
+        if (node.distanceSquared(x, y, z) <= radiusSquared) {
+            result.add(node);
+        }
+
+        double delta = coordinate(x, y, z, depth) - coordinate(node, depth);
+        if (delta <= radius) {
+            collectWithin(from, median, depth + 1, x, y, z, radius, radiusSquared, result);
+        }
+        if (delta >= -radius) {
+            collectWithin(median + 1, to, depth + 1, x, y, z, radius, radiusSquared, result);
+        }
+    }
+
+    private void nearest(final int from, final int to, final int depth,
+                         final double x, final double y, final double z, final int k,
+                         @NotNull final PriorityQueue<Candidate> candidates) {
+        if (from >= to) {
+            return;
+        }
+
+        int median = (from + to) >>> 1;
+        Location node = this.nodes[median];
+        double distanceSquared = node.distanceSquared(x, y, z);
+        if (candidates.size() < k) {
+            candidates.add(new Candidate(node, distanceSquared));
+        } else if (distanceSquared < candidates.peek().distanceSquared()) {
+            candidates.poll();
+            candidates.add(new Candidate(node, distanceSquared));
+        }
+
+        double delta = coordinate(x, y, z, depth) - coordinate(node, depth);
+        boolean left = delta < 0;
+        if (left) {
+            nearest(from, median, depth + 1, x, y, z, k, candidates);
+        } else {
+            nearest(median + 1, to, depth + 1, x, y, z, k, candidates);
+        }
+
+        if (candidates.size() < k || delta * delta < candidates.peek().distanceSquared()) {
+            if (left) {
+                nearest(median + 1, to, depth + 1, x, y, z, k, candidates);
+            } else {
+                nearest(from, median, depth + 1, x, y, z, k, candidates);
+            }
+        }
+    }
+
+    private static double coordinate(@NotNull final Location location, final int depth) {
+        return coordinate(location.getX(), location.getY(), location.getZ(), depth);
+    }
+
+    private static double coordinate(final double x, final double y, final double z, final int depth) {
+        return switch (depth % DIMENSIONS) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> z;
+        };
+    }
+
+    private record Candidate(@NotNull Location location, double distanceSquared) {
+    }
+}
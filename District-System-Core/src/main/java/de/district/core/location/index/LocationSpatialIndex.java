@@ -0,0 +1,382 @@
+package de.district.core.location.index;
+
+import de.district.api.location.Location;
+import de.district.api.location.LocationType;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The {@code LocationSpatialIndex} class indexes all locations by world and by the chunk they are located in, so
+ * the locations around a position can be found without looking at every location of the server.
+ *
+ * <p>Each world maps packed chunk coordinates to the locations inside that chunk. A query only visits the chunks
+ * that intersect the bounding box of the query radius and compares the squared distances of their locations.
+ * Readers work on an immutable snapshot and never block; writers copy the affected world and publish the
+ * new snapshot afterwards. Locations change rarely, so the cost of copying is negligible.</p>
+ *
+ * <p>In addition, every world keeps a {@link LocationKdTree} per {@link LocationType}, which answers radius and
+ * nearest-neighbour queries for a single type of location in logarithmic time. The trees of a world are rebuilt
+ * whenever a location of that world changes.</p>
+ *
+ * <p>The index is partitioned by world, so the locations of a world can be loaded and dropped together with the
+ * world through {@link #putWorld(String, Collection)} and {@link #removeWorld(String)}.</p>
+ *
+ * <p>Locations are mutable entities, and a caller may move a location in place before it is updated. The world and
+ * the chunk a location has been indexed under are therefore stored with every indexed location, and a location is
+ * always removed from the chunk it has been indexed under, never from the chunk its current coordinates point to.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.district.core.location.service.CoreLocationService
+ * @since 1.0.0
+ */
+@Component
+public class LocationSpatialIndex {
+
+    /**
+     * The amount of bits to shift a block coordinate to get its chunk coordinate.
+     */
+    private static final int CHUNK_SHIFT = 4;
+    private static final Location[] EMPTY = new Location[0];
+
+    private final Map<Long, IndexedLocation> locationsById = new HashMap<>();
+    private volatile Map<String, Long2ObjectMap<Location[]>> worlds = Map.of();
+    private volatile Map<String, Map<LocationType, LocationKdTree>> trees = Map.of();
+    private volatile boolean loaded;
+
+    /**
+     * Replaces the content of the index with the specified locations.
+     *
+     * @param locations the locations to index.
+     */
+    public synchronized void rebuild(@NotNull final Collection<? extends Location> locations) {
+        this.locationsById.clear();
+        Map<String, Long2ObjectMap<Location[]>> rebuilt = new HashMap<>();
+        for (Location location : locations) {
+            IndexedLocation indexed = IndexedLocation.of(location);
+            this.locationsById.put(location.getId(), indexed);
+            Long2ObjectMap<Location[]> cells = rebuilt.computeIfAbsent(indexed.world(), world -> new Long2ObjectOpenHashMap<>());
+            cells.put(indexed.cell(), append(cells.get(indexed.cell()), location));
+        }
+        this.worlds = Map.copyOf(rebuilt);
+        this.trees = Map.of();
+        rebuildTrees(rebuilt.keySet());
+        this.loaded = true;
+    }
+
+    /**
+     * Adds the specified location to the index or replaces the indexed location with the same id.
+     *
+     * @param location the location to index.
+     */
+    public synchronized void put(@NotNull final Location location) {
+        Map<String, Long2ObjectMap<Location[]>> updated = new HashMap<>(this.worlds);
+        IndexedLocation indexed = IndexedLocation.of(location);
+        IndexedLocation previous = this.locationsById.put(location.getId(), indexed);
+        if (previous != null) {
+            removeFrom(updated, previous);
+        }
+
+        Long2ObjectMap<Location[]> cells = copyOf(updated.get(indexed.world()));
+        cells.put(indexed.cell(), append(cells.get(indexed.cell()), location));
+        updated.put(indexed.world(), cells);
+        this.worlds = Map.copyOf(updated);
+        rebuildTrees(previous == null ? List.of(indexed.world()) : List.of(indexed.world(), previous.world()));
+    }
+
+    /**
+     * Replaces the indexed locations of the specified world with the specified locations. The other worlds are not
+     * affected.
+     *
+     * @param world     the name of the world.
+     * @param locations the locations of the world.
+     */
+    public synchronized void putWorld(@NotNull final String world, @NotNull final Collection<? extends Location> locations) {
+        Map<String, Long2ObjectMap<Location[]>> updated = new HashMap<>(this.worlds);
+        forget(updated.remove(world));
+
+        Long2ObjectMap<Location[]> cells = new Long2ObjectOpenHashMap<>();
+        Set<String> changedWorlds = new HashSet<>();
+        changedWorlds.add(world);
+        for (Location location : locations) {
+            IndexedLocation indexed = IndexedLocation.of(location);
+            IndexedLocation previous = this.locationsById.put(location.getId(), indexed);
+            if (previous != null && !previous.world().equals(world)) {
+                // The location has been moved into this world and is still indexed under its former world.
+                removeFrom(updated, previous);
+                changedWorlds.add(previous.world());
+            }
+            cells.put(indexed.cell(), append(cells.get(indexed.cell()), location));
+        }
+        if (!cells.isEmpty()) {
+            updated.put(world, cells);
+        }
+        this.worlds = Map.copyOf(updated);
+        rebuildTrees(changedWorlds);
+    }
+
+    /**
+     * Removes all locations of the specified world from the index.
+     *
+     * @param world the name of the world.
+     */
+    public synchronized void removeWorld(@NotNull final String world) {
+        if (!this.worlds.containsKey(world)) {
+            return;
+        }
+
+        Map<String, Long2ObjectMap<Location[]>> updated = new HashMap<>(this.worlds);
+        forget(updated.remove(world));
+        this.worlds = Map.copyOf(updated);
+        rebuildTrees(List.of(world));
+    }
+
+    /**
+     * Removes the location with the specified id from the index.
+     *
+     * @param id the id of the location.
+     */
+    public synchronized void remove(final long id) {
+        IndexedLocation previous = this.locationsById.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        Map<String, Long2ObjectMap<Location[]>> updated = new HashMap<>(this.worlds);
+        removeFrom(updated, previous);
+        this.worlds = Map.copyOf(updated);
+        rebuildTrees(List.of(previous.world()));
+    }
+
+    /**
+     * Passes every location that lies within the specified radius around the given position to the consumer.
+     *
+     * @param world    the name of the world.
+     * @param x        the x-coordinate of the position.
+     * @param y        the y-coordinate of the position.
+     * @param z        the z-coordinate of the position.
+     * @param radius   the radius around the position.
+     * @param consumer the consumer that is called for every location within the radius.
+     */
+    public void forEachWithin(@NotNull final String world,
+                              final double x,
+                              final double y,
+                              final double z,
+                              final double radius,
+                              @NotNull final Consumer<Location> consumer) {
+        Long2ObjectMap<Location[]> cells = this.worlds.get(world);
+        if (cells == null) {
+            return;
+        }
+
+        double radiusSquared = radius * radius;
+        int minCellX = floor(x - radius) >> CHUNK_SHIFT;
+        int maxCellX = floor(x + radius) >> CHUNK_SHIFT;
+        int minCellZ = floor(z - radius) >> CHUNK_SHIFT;
+        int maxCellZ = floor(z + radius) >> CHUNK_SHIFT;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Location[] locations = cells.get(pack(cellX, cellZ));
+                if (locations == null) {
+                    continue;
+                }
+                for (Location location : locations) {
+                    if (location.distanceSquared(x, y, z) <= radiusSquared) {
+                        consumer.accept(location);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds all locations of the specified type within the specified radius around the given position.
+     *
+     * @param world  the name of the world.
+     * @param type   the type of the locations.
+     * @param x      the x-coordinate of the position.
+     * @param y      the y-coordinate of the position.
+     * @param z      the z-coordinate of the position.
+     * @param radius the radius around the position.
+     * @return the locations within the radius, in no particular order.
+     */
+    public @NotNull List<Location> findWithin(@NotNull final String world,
+                                              @NotNull final LocationType type,
+                                              final double x,
+                                              final double y,
+                                              final double z,
+                                              final double radius) {
+        LocationKdTree tree = treeOf(world, type);
+        if (tree == null) {
+            return List.of();
+        }
+
+        List<Location> result = new ArrayList<>();
+        tree.collectWithin(x, y, z, radius, result);
+        return result;
+    }
+
+    /**
+     * Finds the {@code k} locations of the specified type that are closest to the given position.
+     *
+     * @param world the name of the world.
+     * @param type  the type of the locations.
+     * @param x     the x-coordinate of the position.
+     * @param y     the y-coordinate of the position.
+     * @param z     the z-coordinate of the position.
+     * @param k     the maximum amount of locations to find.
+     * @return the closest locations, ordered by ascending distance.
+     */
+    public @NotNull List<Location> findNearest(@NotNull final String world,
+                                               @NotNull final LocationType type,
+                                               final double x,
+                                               final double y,
+                                               final double z,
+                                               final int k) {
+        LocationKdTree tree = treeOf(world, type);
+        if (tree == null) {
+            return List.of();
+        }
+        return tree.nearest(x, y, z, k);
+    }
+
+    /**
+     * Checks whether the index has been loaded.
+     *
+     * @return {@code true} if the index has been loaded, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Retrieves the amount of indexed locations.
+     *
+     * @return the amount of indexed locations.
+     */
+    public synchronized int size() {
+        return this.locationsById.size();
+    }
+
+    private LocationKdTree treeOf(@NotNull final String world, @NotNull final LocationType type) {
+        Map<LocationType, LocationKdTree> worldTrees = this.trees.get(world);
+        return worldTrees == null ? null : worldTrees.get(type);
+    }
+
+    private void rebuildTrees(@NotNull final Collection<String> changedWorlds) {
+        Map<String, Map<LocationType, LocationKdTree>> updated = new HashMap<>(this.trees);
+        for (String world : changedWorlds) {
+            Long2ObjectMap<Location[]> cells = this.worlds.get(world);
+            if (cells == null) {
+                updated.remove(world);
+                continue;
+            }
+
+            Map<LocationType, List<Location>> byType = new EnumMap<>(LocationType.class);
+            for (Location[] locations : cells.values()) {
+                for (Location location : locations) {
+                    byType.computeIfAbsent(location.getType(), type -> new ArrayList<>()).add(location);
+                }
+            }
+
+            Map<LocationType, LocationKdTree> worldTrees = new EnumMap<>(LocationType.class);
+            byType.forEach((type, locations) -> worldTrees.put(type, new LocationKdTree(locations.toArray(Location[]::new))));
+            updated.put(world, worldTrees);
+        }
+        this.trees = Map.copyOf(updated);
+    }
+
+    private void forget(final Long2ObjectMap<Location[]> cells) {
+        if (cells == null) {
+            return;
+        }
+        for (Location[] locations : cells.values()) {
+            for (Location location : locations) {
+                this.locationsById.remove(location.getId());
+            }
+        }
+    }
+
+    private static void removeFrom(@NotNull final Map<String, Long2ObjectMap<Location[]>> worlds, @NotNull final IndexedLocation indexed) {
+        Long2ObjectMap<Location[]> cells = worlds.get(indexed.world());
+        if (cells == null) {
+            return;
+        }
+
+        cells = copyOf(cells);
+        Location[] remaining = without(cells.get(indexed.cell()), indexed.location().getId());
+        if (remaining.length == 0) {
+            cells.remove(indexed.cell());
+        } else {
+            cells.put(indexed.cell(), remaining);
+        }
+
+        if (cells.isEmpty()) {
+            worlds.remove(indexed.world());
+        } else {
+            worlds.put(indexed.world(), cells);
+        }
+    }
+
+    private static Long2ObjectMap<Location[]> copyOf(final Long2ObjectMap<Location[]> cells) {
+        return cells == null ? new Long2ObjectOpenHashMap<>() : new Long2ObjectOpenHashMap<>(cells);
+    }
+
+    private static Location[] append(final Location[] locations, @NotNull final Location location) {
+        if (locations == null) {
+            return new Location[]{location};
+        }
+        Location[] appended = Arrays.copyOf(locations, locations.length + 1);
+        appended[locations.length] = location;
+        return appended;
+    }
+
+    private static Location[] without(final Location[] locations, final Long id) {
+        if (locations == null) {
+            return EMPTY;
+        }
+        return Arrays.stream(locations)
+                .filter(location -> !location.getId().equals(id))
+                .toArray(Location[]::new);
+    }
+
+    private static long cellOf(@NotNull final Location location) {
+        return pack(floor(location.getX()) >> CHUNK_SHIFT, floor(location.getZ()) >> CHUNK_SHIFT);
+    }
+
+    private static long pack(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int floor(final double value) {
+        return (int) Math.floor(value);
+    }
+
+    /**
+     * A location together with the world and the chunk it has been indexed under.
+     *
+     * @param world    the name of the world the location has been indexed under.
+     * @param cell     the packed coordinates of the chunk the location has been indexed under.
+     * @param location the indexed location.
+     */
+    private record IndexedLocation(@NotNull String world, long cell, @NotNull Location location) {
+
+        private static @NotNull IndexedLocation of(@NotNull final Location location) {
+            return new IndexedLocation(location.getWorld(), cellOf(location), location);
+        }
+    }
+}
@@ -2,11 +2,19 @@ package de.district.core.location.repository;
 
 import de.district.core.location.domain.BaseLocationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
 
 import java.util.List;
 
+@NoRepositoryBean
 public interface LocationRepository<ENTITY extends BaseLocationEntity, ID> extends JpaRepository<ENTITY, ID> {
     List<ENTITY> findByName(final String name);
 
     List<ENTITY> findByWorld(final String world);
+
+    List<ENTITY> findByWorldAndXBetweenAndZBetween(final String world,
+                                                   final double minX,
+                                                   final double maxX,
+                                                   final double minZ,
+                                                   final double maxZ);
 }
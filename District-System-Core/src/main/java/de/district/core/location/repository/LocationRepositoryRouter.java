@@ -0,0 +1,123 @@
+package de.district.core.location.repository;
+
+import de.district.api.location.LocationType;
+import de.district.core.economy.location.atm.repository.AtmRepository;
+import de.district.core.economy.location.bank.repository.BankLocRepository;
+import de.district.core.location.domain.BaseLocationEntity;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@code LocationRepositoryRouter} class routes location queries to the typed repository of each
+ * {@link LocationType}.
+ *
+ * <p>Since {@link BaseLocationEntity} uses {@code InheritanceType.JOINED}, a query through the
+ * {@link BaseLocationRepository} joins the {@code locations} table with the tables of all subclasses. A query
+ * through a typed repository only joins the {@code locations} table with the table of its own type. Queries that
+ * span all types are split into one query per type.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationRepository
+ * @since 1.0.0
+ */
+@Component
+public class LocationRepositoryRouter {
+
+    private final Map<LocationType, LocationRepository<? extends BaseLocationEntity, Long>> repositories = new EnumMap<>(LocationType.class);
+
+    public LocationRepositoryRouter(final AtmRepository atmRepository, final BankLocRepository bankLocRepository) {
+        this.repositories.put(LocationType.ATM, atmRepository);
+        this.repositories.put(LocationType.BANK, bankLocRepository);
+    }
+
+    /**
+     * Retrieves the typed repository of the specified location type.
+     *
+     * @param type the location type.
+     * @return the repository of the location type.
+     * @throws IllegalStateException if no repository is registered for the location type.
+     */
+    public @NotNull LocationRepository<? extends BaseLocationEntity, Long> getRepository(@NotNull final LocationType type) {
+        LocationRepository<? extends BaseLocationEntity, Long> repository = this.repositories.get(type);
+        if (repository == null) {
+            throw new IllegalStateException(String.format("No repository registered for location type %s", type));
+        }
+        return repository;
+    }
+
+    /**
+     * Retrieves all locations with one query per location type.
+     *
+     * @return all locations.
+     */
+    public @NotNull List<BaseLocationEntity> findAll() {
+        List<BaseLocationEntity> locations = new ArrayList<>();
+        for (LocationRepository<? extends BaseLocationEntity, Long> repository : this.repositories.values()) {
+            locations.addAll(repository.findAll());
+        }
+        return locations;
+    }
+
+    /**
+     * Retrieves all locations in the specified world with one query per location type.
+     *
+     * @param world the name of the world.
+     * @return all locations in the world.
+     */
+    public @NotNull List<BaseLocationEntity> findByWorld(@NotNull final String world) {
+        List<BaseLocationEntity> locations = new ArrayList<>();
+        for (LocationRepository<? extends BaseLocationEntity, Long> repository : this.repositories.values()) {
+            locations.addAll(repository.findByWorld(world));
+        }
+        return locations;
+    }
+
+    /**
+     * Retrieves all locations of the specified type in the specified world.
+     *
+     * @param world the name of the world.
+     * @param type the location type.
+     * @return the locations of the type in the world.
+     */
+    public @NotNull List<? extends BaseLocationEntity> findByWorld(@NotNull final String world, @NotNull final LocationType type) {
+        return getRepository(type).findByWorld(world);
+    }
+
+    /**
+     * Retrieves all locations of the specified type whose x- and z-coordinates lie within the specified bounding box.
+     * The query is served by the index on {@code (world, x, z)}.
+     *
+     * @param world the name of the world.
+     * @param type the location type.
+     * @param minX the inclusive minimum x-coordinate.
+     * @param maxX the inclusive maximum x-coordinate.
+     * @param minZ the inclusive minimum z-coordinate.
+     * @param maxZ the inclusive maximum z-coordinate.
+     * @return the locations of the type within the bounding box.
+     */
+    public @NotNull List<? extends BaseLocationEntity> findWithin(@NotNull final String world,
+                                                                  @NotNull final LocationType type,
+                                                                  final double minX,
+                                                                  final double maxX,
+                                                                  final double minZ,
+                                                                  final double maxZ) {
+        return getRepository(type).findByWorldAndXBetweenAndZBetween(world, minX, maxX, minZ, maxZ);
+    }
+
+    /**
+     * Retrieves the location of the specified type with the specified id.
+     *
+     * @param id the id of the location.
+     * @param type the location type.
+     * @return an {@link Optional} containing the location, or empty if there is no location of the type with the id.
+     */
+    public Optional<BaseLocationEntity> findById(final long id, @NotNull final LocationType type) {
+        return getRepository(type).findById(id).map(location -> location);
+    }
+}
@@ -1,19 +1,32 @@
 package de.district.core.location.service;
 
 import de.district.api.location.Location;
+import de.district.api.location.LocationType;
 import de.district.api.location.interaction.Interactable;
 import de.district.api.location.service.LocationService;
 import de.district.core.DistrictRoleplay;
-import de.district.core.location.repository.BaseLocationRepository;
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.bank.domain.BankLoc;
 import de.district.core.location.domain.BaseLocationEntity;
+import de.district.core.location.index.LocationSpatialIndex;
+import de.district.core.location.repository.BaseLocationRepository;
+import de.district.core.location.repository.LocationRepositoryRouter;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@code CoreLocationService} class provides the core implementation of the {@link LocationService} interface,
@@ -27,6 +40,12 @@ import java.util.stream.Collectors;
  * <p>The service also manages interactions with locations through the use of {@link Interactable} instances,
  * enabling players to interact with different types of locations within the game environment.</p>
  *
+ * <p>The locations of all loaded worlds are kept in an immutable {@link LocationSnapshot} and in a
+ * {@link LocationSpatialIndex}. Both are partitioned by world: the locations of a world are loaded when the world
+ * is loaded and dropped when it is unloaded, see {@link LocationWorldListener}. Only
+ * {@link #createLocation(Location)}, {@link #updateLocation(Location)}, {@link #deleteLocation(long)},
+ * {@link #replaceLocations(Collection)} and the loading of a world publish a new snapshot, so reads never touch the database and never lock.</p>
+ *
  * @see LocationService
  * @see BaseLocationRepository
  * @see BaseLocationEntity
@@ -40,6 +59,138 @@ public class CoreLocationService implements LocationService {
     @Autowired
     private BaseLocationRepository locationRepository;
 
+    @Autowired
+    private LocationRepositoryRouter repositoryRouter;
+
+    @Autowired
+    private LocationSpatialIndex spatialIndex;
+
+    @Autowired
+    private LocationProximityTracker proximityTracker;
+
+    /**
+     * The lock guarding the publication of new snapshots, so concurrent writes cannot overwrite each other.
+     */
+    private final Object writeLock = new Object();
+    /**
+     * The names of the loaded worlds, whose locations are held in the snapshot.
+     */
+    private final Set<String> activeWorlds = ConcurrentHashMap.newKeySet();
+    /**
+     * The number of writes published so far, used to detect writes that happen while locations are queried.
+     */
+    private volatile long modifications;
+    private volatile LocationSnapshot snapshot = LocationSnapshot.EMPTY;
+
+    /**
+     * Activates all worlds that are already loaded and loads their locations. This method is called once the
+     * application is ready. Worlds loaded afterwards are activated by the {@link LocationWorldListener}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (World world : Bukkit.getWorlds()) {
+            this.activeWorlds.add(world.getName());
+        }
+        loadLocations();
+    }
+
+    /**
+     * Reloads the locations of all loaded worlds into the snapshot and the {@link LocationSpatialIndex}. The
+     * locations are loaded through the typed repositories, so each query only joins the table of its own type.
+     *
+     * <p>The queries run without holding the write lock. If a location is written in the meantime, the locations are
+     * queried again, so the write is never lost.</p>
+     *
+     * <p>This method performs blocking database queries.</p>
+     */
+    public void loadLocations() {
+        while (true) {
+            long expected = this.modifications;
+            List<BaseLocationEntity> locations = new ArrayList<>();
+            for (String world : this.activeWorlds) {
+                locations.addAll(repositoryRouter.findByWorld(world));
+            }
+            synchronized (writeLock) {
+                if (expected != this.modifications) {
+                    continue;
+                }
+                this.snapshot = LocationSnapshot.of(locations);
+                spatialIndex.rebuild(locations);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the specified world as loaded, so locations created in the world are published. The locations of the
+     * world have to be loaded through {@link #loadWorld(String)} afterwards.
+     *
+     * @param world the name of the world.
+     */
+    public void activateWorld(@NotNull final String world) {
+        this.activeWorlds.add(world);
+    }
+
+    /**
+     * Loads the locations of the specified world into the snapshot and the {@link LocationSpatialIndex}, replacing
+     * the locations of the world that are already loaded. Nothing is published if the world has been unloaded
+     * while its locations were queried. If a location is written while the locations are queried, they are queried
+     * again, so the write is never lost.
+     *
+     * <p>This method performs a blocking database query and should not be called from the main thread.</p>
+     *
+     * @param world the name of the world.
+     */
+    public void loadWorld(@NotNull final String world) {
+        while (true) {
+            long expected = this.modifications;
+            List<? extends BaseLocationEntity> locations = repositoryRouter.findByWorld(world);
+            synchronized (writeLock) {
+                if (!this.activeWorlds.contains(world)) {
+                    return;
+                }
+                if (expected != this.modifications) {
+                    continue;
+                }
+                this.snapshot = this.snapshot.withWorld(world, locations);
+                spatialIndex.putWorld(world, locations);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops the locations of the specified world from the snapshot and the {@link LocationSpatialIndex}.
+     *
+     * @param world the name of the world.
+     */
+    public void unloadWorld(@NotNull final String world) {
+        this.activeWorlds.remove(world);
+        synchronized (writeLock) {
+            this.snapshot = this.snapshot.withoutWorld(world);
+            spatialIndex.removeWorld(world);
+        }
+    }
+
+    /**
+     * Retrieves the current immutable snapshot of all locations. The snapshot is replaced on every write, so callers
+     * that need a consistent view across several reads should keep the returned instance.
+     *
+     * @return the current {@link LocationSnapshot}.
+     */
+    public @NotNull LocationSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Retrieves the spatial index of all locations.
+     *
+     * @return the {@link LocationSpatialIndex} of all locations.
+     */
+    public @NotNull LocationSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
     /**
      * Creates a new location in the system and persists it in the database.
      *
@@ -49,30 +200,101 @@ public class CoreLocationService implements LocationService {
      */
     @Override
     public @NotNull Location createLocation(@NotNull final Location location) {
-        return locationRepository.save((BaseLocationEntity) location);
+        synchronized (writeLock) {
+            BaseLocationEntity created = locationRepository.save((BaseLocationEntity) location);
+            publish(created);
+            return created;
+        }
     }
 
     /**
-     * Retrieves a location by its unique identifier.
+     * Retrieves a location by its unique identifier. The database is only queried if the location is not part of
+     * the current snapshot, for example because its world is not loaded.
      *
      * @param id the unique identifier of the location.
      * @return an {@link Optional} containing the location if found, or empty if not found.
      */
     @Override
     public Optional<Location> getLocationById(final long id) {
-        return locationRepository.findById(id).map(location -> location);
+        Optional<Location> location = this.snapshot.get(id);
+        if (location.isPresent()) {
+            return location;
+        }
+        return locationRepository.findById(id).map(entity -> entity);
     }
 
     /**
-     * Retrieves all locations from the database.
+     * Retrieves the locations of all loaded worlds. The locations are served from the current snapshot, the
+     * locations of worlds that are not loaded are available through {@link #findAllPersistedLocations()}.
      *
-     * @return a list of all {@link Location} entities in the system.
+     * @return an unmodifiable list of the {@link Location} entities of all loaded worlds.
      */
     @Override
     public @NotNull List<Location> getAllLocations() {
-        return locationRepository.findAll().stream()
-                .map(location -> (Location) location)
-                .collect(Collectors.toList());
+        return this.snapshot.getAll();
+    }
+
+    /**
+     * Retrieves all persisted locations, including the locations of worlds that are not loaded.
+     *
+     * <p>This method performs blocking database queries and should not be called from the main thread.</p>
+     *
+     * @return an unmodifiable list of all persisted locations.
+     */
+    public @NotNull List<BaseLocationEntity> findAllPersistedLocations() {
+        return List.copyOf(repositoryRouter.findAll());
+    }
+
+    /**
+     * Retrieves all locations in the specified world from the current snapshot.
+     *
+     * @param world the name of the world.
+     * @return an unmodifiable list of the locations in the world.
+     */
+    public @NotNull List<Location> getLocations(@NotNull final String world) {
+        return this.snapshot.getByWorld(world);
+    }
+
+    /**
+     * Retrieves all locations of the specified type from the current snapshot.
+     *
+     * @param type the type of the locations.
+     * @return an unmodifiable list of the locations of the type.
+     */
+    public @NotNull List<Location> getLocations(@NotNull final LocationType type) {
+        return this.snapshot.getByType(type);
+    }
+
+    /**
+     * Retrieves all locations of the specified type in the specified world from the current snapshot.
+     *
+     * @param world the name of the world.
+     * @param type the type of the locations.
+     * @return an unmodifiable list of the locations of the type in the world.
+     */
+    public @NotNull List<Location> getLocations(@NotNull final String world, @NotNull final LocationType type) {
+        return this.snapshot.getByWorldAndType(world, type);
+    }
+
+    /**
+     * Retrieves all ATMs of the loaded worlds from the current snapshot.
+     *
+     * @return an unmodifiable list of the ATMs.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull List<Atm> getAtms() {
+        // The snapshot only holds entities, and all locations of the type ATM are mapped to the Atm entity.
+        return (List<Atm>) (List<?>) this.snapshot.getByType(LocationType.ATM);
+    }
+
+    /**
+     * Retrieves all banks of the loaded worlds from the current snapshot.
+     *
+     * @return an unmodifiable list of the banks.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull List<BankLoc> getBanks() {
+        return (List<BankLoc>) (List<?>) this.snapshot.getByType(LocationType.BANK);
     }
 
     /**
@@ -84,10 +306,9 @@ public class CoreLocationService implements LocationService {
      */
     @Override
     public void interactWithLocation(@NotNull final Player player, @NotNull final Location location) {
-        List<Interactable> interactables = DistrictRoleplay.getInteractionHolder().interactions().stream()
-                .filter(interactable -> interactable.getLocationType() == location.getType())
-                .toList();
-        interactables.forEach(interactable -> interactable.interact(player, location));
+        for (Interactable interactable : DistrictRoleplay.getInteractionHolder().getInteractions(location.getType())) {
+            interactable.interact(player, location);
+        }
     }
 
     /**
@@ -109,16 +330,77 @@ public class CoreLocationService implements LocationService {
      */
     @Override
     public @NotNull Location updateLocation(@NotNull final Location location) {
-        return locationRepository.save((BaseLocationEntity) location);
+        synchronized (writeLock) {
+            BaseLocationEntity updated = locationRepository.save((BaseLocationEntity) location);
+            publish(updated);
+            return updated;
+        }
     }
 
     /**
-     * Deletes a location from the system by its unique identifier.
+     * Replaces the published instances of the specified locations by the specified copies, with a single new
+     * snapshot. This is meant for services that write columns of their locations directly, so the snapshot serves
+     * the current version of these locations.
+     *
+     * <p>A copy is only published if the published location has not been changed in the meantime, i.e. if the copy
+     * has the version following the one of the published location. Locations that are not part of the snapshot are
+     * skipped. The {@link LocationSpatialIndex} is not changed, so the copies must not change the position of their
+     * locations.</p>
+     *
+     * @param locations the copies of the locations.
+     */
+    public void replaceLocations(@NotNull final Collection<? extends BaseLocationEntity> locations) {
+        synchronized (writeLock) {
+            List<BaseLocationEntity> replaced = new ArrayList<>(locations.size());
+            for (BaseLocationEntity location : locations) {
+                Location published = this.snapshot.get(location.getId()).orElse(null);
+                if (published instanceof BaseLocationEntity entity && entity.getVersion() + 1 == location.getVersion()) {
+                    replaced.add(location);
+                }
+            }
+            if (replaced.isEmpty()) {
+                return;
+            }
+            this.snapshot = this.snapshot.withAll(replaced);
+            this.modifications++;
+        }
+    }
+
+    /**
+     * Deletes a location from the system by its unique identifier. All players at the location leave it, see
+     * {@link LocationProximityTracker#leaveLocation(long)}.
      *
      * @param id the unique identifier of the location to be deleted.
      */
     @Override
     public void deleteLocation(final long id) {
-        locationRepository.deleteById(id);
+        synchronized (writeLock) {
+            locationRepository.deleteById(id);
+            this.snapshot = this.snapshot.without(id);
+            spatialIndex.remove(id);
+            this.modifications++;
+        }
+        if (Bukkit.isPrimaryThread()) {
+            proximityTracker.leaveLocation(id);
+        } else {
+            Bukkit.getScheduler().runTask(JavaPlugin.getPlugin(DistrictRoleplay.class), () -> proximityTracker.leaveLocation(id));
+        }
+    }
+
+    /**
+     * Publishes a new snapshot that contains the specified location and updates the spatial index. A location in a
+     * world that is not loaded is removed from both instead. Must be called while holding the {@link #writeLock}.
+     *
+     * @param location the created or updated location.
+     */
+    private void publish(@NotNull final BaseLocationEntity location) {
+        this.modifications++;
+        if (this.activeWorlds.contains(location.getWorld())) {
+            this.snapshot = this.snapshot.with(location);
+            spatialIndex.put(location);
+        } else {
+            this.snapshot = this.snapshot.without(location.getId());
+            spatialIndex.remove(location.getId());
+        }
     }
 }
@@ -1,20 +1,208 @@
 package de.district.core.location.service;
 
-import de.district.core.economy.location.atm.repository.AtmRepository;
-import de.district.core.economy.repository.BankRepository;
+import de.district.api.economy.GameAtm;
+import de.district.api.economy.GameBank;
+import de.district.api.location.Location;
+import de.district.api.location.LocationType;
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.atm.service.AtmCashService;
+import de.district.core.location.domain.BaseLocationEntity;
+import de.district.core.location.index.LocationSpatialIndex;
+import de.district.core.location.repository.LocationRepositoryRouter;
+import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code LocationFindingService} class answers radius and nearest-neighbour queries for locations of a
+ * specific {@link LocationType}, e.g. to find the banks or ATMs around a player.
+ *
+ * <p>Queries are answered by the {@link LocationSpatialIndex}. As long as the index has not been loaded yet
+ * (e.g. directly after startup), the service falls back to bounding-box queries on the indexed
+ * {@code (world, x, z)} columns of the {@code locations} table.</p>
+ *
+ * <p>ATMs are returned through {@link AtmCashService#live(Atm)}, so their available money is the current cash of
+ * the ATM and not the last persisted amount.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationSpatialIndex
+ * @since 1.0.0
+ */
 @Service
 public class LocationFindingService {
 
+    /**
+     * The half edge length of the first bounding box used by the database fallback of the nearest-neighbour search.
+     */
+    private static final double FALLBACK_START_RADIUS = 64.0;
+    /**
+     * The half edge length of the largest bounding box used by the database fallback of the nearest-neighbour search.
+     */
+    private static final double FALLBACK_MAX_RADIUS = 4096.0;
+
+    @Autowired
+    private LocationSpatialIndex spatialIndex;
+
     @Autowired
-    private BankRepository bankRepository;
+    private LocationRepositoryRouter repositoryRouter;
 
     @Autowired
-    private AtmRepository atmRepository;
+    private AtmCashService atmCashService;
+
+    /**
+     * Finds all locations of the specified type within the specified radius around the given position.
+     *
+     * @param origin the position to search around.
+     * @param type the type of the locations.
+     * @param radius the radius around the position.
+     * @return the locations within the radius, ordered by ascending distance.
+     */
+    public @NotNull List<Location> findNearby(@NotNull final org.bukkit.Location origin,
+                                              @NotNull final LocationType type,
+                                              final double radius) {
+        String world = origin.getWorld().getName();
+        List<Location> locations;
+        if (spatialIndex.isLoaded()) {
+            locations = spatialIndex.findWithin(world, type, origin.getX(), origin.getY(), origin.getZ(), radius);
+        } else {
+            locations = findWithinFromDatabase(world, type, origin.getX(), origin.getY(), origin.getZ(), radius);
+        }
+
+        List<Location> sorted = new ArrayList<>(locations);
+        sorted.sort(Comparator.comparingDouble(location -> distanceSquared(location, origin)));
+        return sorted;
+    }
+
+    /**
+     * Finds the {@code k} locations of the specified type that are closest to the given position.
+     *
+     * @param origin the position to search around.
+     * @param type the type of the locations.
+     * @param k the maximum amount of locations to find.
+     * @return the closest locations, ordered by ascending distance.
+     */
+    public @NotNull List<Location> findNearest(@NotNull final org.bukkit.Location origin,
+                                               @NotNull final LocationType type,
+                                               final int k) {
+        String world = origin.getWorld().getName();
+        if (spatialIndex.isLoaded()) {
+            return spatialIndex.findNearest(world, type, origin.getX(), origin.getY(), origin.getZ(), k);
+        }
+        return findNearestFromDatabase(origin, type, k);
+    }
+
+    /**
+     * Finds the location of the specified type that is closest to the given position.
+     *
+     * @param origin the position to search around.
+     * @param type the type of the location.
+     * @return an {@link Optional} containing the closest location, or empty if there is none in the world.
+     */
+    public Optional<Location> findNearest(@NotNull final org.bukkit.Location origin, @NotNull final LocationType type) {
+        List<Location> nearest = findNearest(origin, type, 1);
+        return nearest.isEmpty() ? Optional.empty() : Optional.of(nearest.get(0));
+    }
+
+    /**
+     * Finds all banks within the specified radius around the given position.
+     *
+     * @param origin the position to search around.
+     * @param radius the radius around the position.
+     * @return the banks within the radius, ordered by ascending distance.
+     */
+    public @NotNull List<GameBank> findNearbyBanks(@NotNull final org.bukkit.Location origin, final double radius) {
+        return filter(findNearby(origin, LocationType.BANK, radius), GameBank.class);
+    }
 
-    public void findNearbyBanks(final double radius) {
+    /**
+     * Finds the bank closest to the given position.
+     *
+     * @param origin the position to search around.
+     * @return an {@link Optional} containing the closest bank, or empty if there is none in the world.
+     */
+    public Optional<GameBank> findNearestBank(@NotNull final org.bukkit.Location origin) {
+        return findNearest(origin, LocationType.BANK)
+                .filter(GameBank.class::isInstance)
+                .map(GameBank.class::cast);
+    }
+
+    /**
+     * Finds all ATMs within the specified radius around the given position.
+     *
+     * @param origin the position to search around.
+     * @param radius the radius around the position.
+     * @return the ATMs within the radius, ordered by ascending distance.
+     */
+    public @NotNull List<GameAtm> findNearbyAtms(@NotNull final org.bukkit.Location origin, final double radius) {
+        List<GameAtm> atms = new ArrayList<>();
+        for (Atm atm : filter(findNearby(origin, LocationType.ATM, radius), Atm.class)) {
+            atms.add(atmCashService.live(atm));
+        }
+        return atms;
+    }
+
+    /**
+     * Finds the ATM closest to the given position.
+     *
+     * @param origin the position to search around.
+     * @return an {@link Optional} containing the closest ATM, or empty if there is none in the world.
+     */
+    public Optional<GameAtm> findNearestAtm(@NotNull final org.bukkit.Location origin) {
+        return findNearest(origin, LocationType.ATM)
+                .filter(Atm.class::isInstance)
+                .map(location -> atmCashService.live((Atm) location));
+    }
+
+    private List<Location> findWithinFromDatabase(@NotNull final String world,
+                                                  @NotNull final LocationType type,
+                                                  final double x,
+                                                  final double y,
+                                                  final double z,
+                                                  final double radius) {
+        List<Location> result = new ArrayList<>();
+        for (BaseLocationEntity location : repositoryRouter.findWithin(
+                world, type, x - radius, x + radius, z - radius, z + radius)) {
+            if (location.isWithin(x, y, z, radius)) {
+                result.add(location);
+            }
+        }
+        return result;
+    }
+
+    private List<Location> findNearestFromDatabase(@NotNull final org.bukkit.Location origin,
+                                                   @NotNull final LocationType type,
+                                                   final int k) {
+        // A location found within the bounding box is only guaranteed to be among the nearest ones if it also lies
+        // within the inscribed sphere, so the box is grown until enough such locations have been found.
+        for (double radius = FALLBACK_START_RADIUS; radius <= FALLBACK_MAX_RADIUS; radius *= 2) {
+            List<Location> candidates = findNearby(origin, type, radius);
+            if (candidates.size() >= k) {
+                return candidates.subList(0, k);
+            }
+        }
+
+        List<Location> candidates = new ArrayList<>();
+        candidates.addAll(repositoryRouter.findByWorld(origin.getWorld().getName(), type));
+        candidates.sort(Comparator.comparingDouble(location -> distanceSquared(location, origin)));
+        return candidates.size() > k ? candidates.subList(0, k) : candidates;
+    }
+
+    private static <T> List<T> filter(@NotNull final List<Location> locations, @NotNull final Class<T> type) {
+        List<T> result = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            if (type.isInstance(location)) {
+                result.add(type.cast(location));
+            }
+        }
+        return result;
+    }
 
+    private static double distanceSquared(@NotNull final Location location, @NotNull final org.bukkit.Location origin) {
+        return location.distanceSquared(origin.getX(), origin.getY(), origin.getZ());
     }
 }
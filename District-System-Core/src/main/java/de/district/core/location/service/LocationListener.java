@@ -1,17 +1,21 @@
 package de.district.core.location.service;
 
-import de.district.api.location.Location;
-import org.bukkit.Bukkit;
+import de.district.core.location.config.LocationConfiguration;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.jetbrains.annotations.NotNull;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The {@code LocationListener} class is responsible for handling player interactions with locations in the game world.
@@ -20,6 +24,11 @@ import java.util.List;
  * <p>This class is annotated with {@link Service}, making it a Spring-managed component that can be injected
  * and used in the application. It interacts with the {@link CoreLocationService} to manage location-based interactions.</p>
  *
+ * <p>Bukkit fires a {@link PlayerInteractEvent} for each hand and repeatedly while the use key is held. Only
+ * interactions with the main hand are processed, and a player has to wait for the configured
+ * {@link LocationConfiguration#getInteractionCooldown() interaction cooldown} between two interactions. Both checks
+ * happen before any location is looked up.</p>
+ *
  * @author Erik Pförtner
  * @see PlayerInteractEvent
  * @see CoreLocationService
@@ -28,58 +37,70 @@ import java.util.List;
 @Service
 public class LocationListener implements Listener {
 
+    /**
+     * The maximum distance between a player and a location for the player to interact with it.
+     * This is used as an anti-cheat measure to prevent range/reach cheats.
+     */
+    private static final double INTERACTION_RADIUS = 5.0;
+
     @Autowired
     private CoreLocationService locationService;
 
+    @Autowired
+    private LocationConfiguration locationConfiguration;
+
+    /**
+     * The {@link System#nanoTime()} of the last processed interaction of every online player. Interaction events
+     * are only fired on the main thread, so the map is not synchronized.
+     */
+    private final Object2LongMap<UUID> lastInteractions = new Object2LongOpenHashMap<>();
+
     /**
      * Handles the {@link PlayerInteractEvent} event, which is triggered when a player interacts with an object in the game world.
-     * This method checks if the player is near any registered locations and processes the interaction if applicable.
+     * Only right clicks on blocks with the main hand outside of the cooldown are processed. The locations near the
+     * player are looked up in the {@link de.district.core.location.index.LocationSpatialIndex}, so only the chunks
+     * around the player are checked.
      *
      * @param event the player interaction event.
      */
     @EventHandler
     public void onPlayerInteract(final PlayerInteractEvent event) {
-        Player player = event.getPlayer();
-        org.bukkit.Location playerLocation = player.getLocation();
-
-        List<Location> locations = locationService.getAllLocations();
-
-        Action action = event.getAction();
+        if (event.getAction() != Action.RIGHT_CLICK_BLOCK || event.getHand() != EquipmentSlot.HAND) {
+            return;
+        }
 
-        for (Location location : locations) {
-            if (isNearby(playerLocation, location)) {
-                handleLocationInteraction(player, location, action);
-            }
+        Player player = event.getPlayer();
+        if (isCoolingDown(player.getUniqueId())) {
+            return;
         }
+
+        org.bukkit.Location playerLocation = player.getLocation();
+        locationService.getSpatialIndex().forEachWithin(
+                player.getWorld().getName(),
+                playerLocation.getX(),
+                playerLocation.getY(),
+                playerLocation.getZ(),
+                INTERACTION_RADIUS,
+                location -> locationService.interactWithLocation(player, location));
     }
 
     /**
-     * Checks if the player is within a certain distance (e.g., 5 blocks) of a given location.
-     * This method is used as an anti-cheat measure to prevent range/reach cheats.
+     * Handles the {@link PlayerQuitEvent} and forgets the last interaction of the player.
      *
-     * @param playerLocation the player's current location.
-     * @param location       the location to check proximity against.
-     * @return {@code true} if the player is within 5 blocks of the location, {@code false} otherwise.
+     * @param event the event that is triggered when a player leaves the server.
      */
-    private boolean isNearby(@NotNull final org.bukkit.Location playerLocation, @NotNull final Location location) {
-        return playerLocation.distance(new org.bukkit.Location(
-                Bukkit.getWorld(location.getWorld()),
-                location.getX(),
-                location.getY(),
-                location.getZ())) < 5;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.lastInteractions.removeLong(event.getPlayer().getUniqueId());
     }
 
-    /**
-     * Handles the interaction between a player and a location when the player performs a right-click action.
-     * This method delegates the interaction logic to the {@link CoreLocationService}.
-     *
-     * @param player   the player interacting with the location.
-     * @param location the location being interacted with.
-     * @param action   the action performed by the player, expected to be {@link Action#RIGHT_CLICK_BLOCK}.
-     */
-    private void handleLocationInteraction(@NotNull final Player player, @NotNull final Location location, @NotNull final Action action) {
-        if (action == Action.RIGHT_CLICK_BLOCK) {
-            locationService.interactWithLocation(player, location);
+    private boolean isCoolingDown(final UUID uuid) {
+        long now = System.nanoTime();
+        long cooldown = TimeUnit.MILLISECONDS.toNanos(this.locationConfiguration.getInteractionCooldown());
+        if (this.lastInteractions.containsKey(uuid) && now - this.lastInteractions.getLong(uuid) < cooldown) {
+            return true;
         }
+        this.lastInteractions.put(uuid, now);
+        return false;
     }
 }
@@ -0,0 +1,237 @@
+package de.district.core.location.service;
+
+import de.district.api.DistrictAPI;
+import de.district.api.entity.PluginPlayer;
+import de.district.api.event.location.LocationEnterEvent;
+import de.district.api.event.location.LocationLeaveEvent;
+import de.district.api.location.Location;
+import de.district.core.location.config.LocationConfiguration;
+import de.district.core.location.index.LocationSpatialIndex;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The {@code LocationProximityTracker} class tracks which locations every online player is currently at and calls a
+ * {@link LocationEnterEvent} or a {@link LocationLeaveEvent} whenever a player enters or leaves the proximity radius
+ * of a location.
+ *
+ * <p>Movements within the same block are ignored, so the locations around a player are only looked up in the
+ * {@link LocationSpatialIndex} when the player crosses a block boundary. Every player keeps the set of locations
+ * they are currently at, and a lookup only compares the new set against the previous one.</p>
+ *
+ * <p>When a location is deleted or its world is unloaded, every player at the location leaves it and a
+ * {@link LocationLeaveEvent} is called, see {@link #leaveLocation(long)} and {@link #leaveWorld(String)}. Events are
+ * only called once the memberships are up to date, so handlers may move the player again.</p>
+ *
+ * <p>All handlers run on the main thread, so the memberships are not synchronized.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationConfiguration#getProximityRadius()
+ * @since 1.0.0
+ */
+@Service
+public class LocationProximityTracker implements Listener {
+
+    private final Map<UUID, Membership> memberships = new HashMap<>();
+
+    @Autowired
+    private LocationSpatialIndex spatialIndex;
+
+    @Autowired
+    private LocationConfiguration locationConfiguration;
+
+    /**
+     * Handles the {@link PlayerJoinEvent} and determines the locations the player starts at.
+     *
+     * @param event the event that is triggered when a player joins the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        update(player, player.getLocation());
+    }
+
+    /**
+     * Handles the {@link PlayerMoveEvent} and re-evaluates the locations of the player if the player has moved
+     * to another block.
+     *
+     * @param event the event that is triggered when a player moves.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        org.bukkit.Location from = event.getFrom();
+        org.bukkit.Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        update(event.getPlayer(), to);
+    }
+
+    /**
+     * Handles the {@link PlayerTeleportEvent} and re-evaluates the locations of the player at the destination.
+     *
+     * @param event the event that is triggered when a player teleports.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+
+    /**
+     * Handles the {@link PlayerQuitEvent} and lets the player leave all locations they are currently at.
+     *
+     * @param event the event that is triggered when a player leaves the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        Membership membership = this.memberships.remove(event.getPlayer().getUniqueId());
+        if (membership == null || membership.inside.isEmpty()) {
+            return;
+        }
+
+        PluginPlayer pluginPlayer = DistrictAPI.getPluginPlayer(event.getPlayer());
+        for (Location location : membership.inside.values()) {
+            Bukkit.getPluginManager().callEvent(new LocationLeaveEvent(pluginPlayer, location));
+        }
+    }
+
+    /**
+     * Checks whether the specified player is currently at the location with the specified id.
+     *
+     * @param uuid the UUID of the player.
+     * @param locationId the id of the location.
+     * @return {@code true} if the player is within the proximity radius of the location, {@code false} otherwise.
+     */
+    public boolean isInside(@NotNull final UUID uuid, final long locationId) {
+        Membership membership = this.memberships.get(uuid);
+        return membership != null && membership.inside.containsKey(locationId);
+    }
+
+    private void update(@NotNull final Player player, @NotNull final org.bukkit.Location position) {
+        Membership membership = this.memberships.computeIfAbsent(player.getUniqueId(), uuid -> new Membership());
+        Long2ObjectMap<Location> current = membership.scratch;
+        current.clear();
+        spatialIndex.forEachWithin(position.getWorld().getName(),
+                position.getX(),
+                position.getY(),
+                position.getZ(),
+                locationConfiguration.getProximityRadius(),
+                location -> current.put(location.getId().longValue(), location));
+
+        Long2ObjectMap<Location> previous = membership.inside;
+        if (current.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+
+        // The events are called after the swap, so a handler that moves the player again can safely re-enter update.
+        List<Location> left = difference(previous, current);
+        List<Location> entered = difference(current, previous);
+        membership.inside = current;
+        membership.scratch = previous;
+        if (left.isEmpty() && entered.isEmpty()) {
+            return;
+        }
+
+        PluginPlayer pluginPlayer = DistrictAPI.getPluginPlayer(player);
+        for (Location location : left) {
+            Bukkit.getPluginManager().callEvent(new LocationLeaveEvent(pluginPlayer, location));
+        }
+        for (Location location : entered) {
+            Bukkit.getPluginManager().callEvent(new LocationEnterEvent(pluginPlayer, location));
+        }
+    }
+
+    /**
+     * Lets all players leave the location with the specified id, for example because the location has been deleted.
+     * A {@link LocationLeaveEvent} is called for every player that was at the location.
+     *
+     * <p>This method must be called on the main thread.</p>
+     *
+     * @param locationId the id of the location.
+     */
+    public void leaveLocation(final long locationId) {
+        leaveAll(location -> location.getId().longValue() == locationId);
+    }
+
+    /**
+     * Lets all players leave the locations in the specified world, because the world is unloaded. A
+     * {@link LocationLeaveEvent} is called for every player and every location the player was at.
+     *
+     * <p>This method must be called on the main thread.</p>
+     *
+     * @param world the name of the world.
+     */
+    public void leaveWorld(@NotNull final String world) {
+        leaveAll(location -> location.getWorld().equals(world));
+    }
+
+    private void leaveAll(@NotNull final Predicate<Location> filter) {
+        Map<UUID, List<Location>> left = new HashMap<>();
+        for (Map.Entry<UUID, Membership> entry : this.memberships.entrySet()) {
+            ObjectIterator<Long2ObjectMap.Entry<Location>> iterator = entry.getValue().inside.long2ObjectEntrySet().iterator();
+            while (iterator.hasNext()) {
+                Location location = iterator.next().getValue();
+                if (filter.test(location)) {
+                    iterator.remove();
+                    left.computeIfAbsent(entry.getKey(), uuid -> new ArrayList<>()).add(location);
+                }
+            }
+        }
+
+        for (Map.Entry<UUID, List<Location>> entry : left.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            PluginPlayer pluginPlayer = player == null ? null : DistrictAPI.getPluginPlayer(player);
+            if (pluginPlayer == null) {
+                continue;
+            }
+            for (Location location : entry.getValue()) {
+                Bukkit.getPluginManager().callEvent(new LocationLeaveEvent(pluginPlayer, location));
+            }
+        }
+    }
+
+    private static @NotNull List<Location> difference(@NotNull final Long2ObjectMap<Location> locations,
+                                                      @NotNull final Long2ObjectMap<Location> other) {
+        List<Location> difference = List.of();
+        for (Long2ObjectMap.Entry<Location> entry : locations.long2ObjectEntrySet()) {
+            if (!other.containsKey(entry.getLongKey())) {
+                if (difference.isEmpty()) {
+                    difference = new ArrayList<>();
+                }
+                difference.add(entry.getValue());
+            }
+        }
+        return difference;
+    }
+
+    /**
+     * The locations a player is currently at. Two maps are swapped on every update, so an update does not allocate.
+     */
+    private static final class Membership {
+        private Long2ObjectMap<Location> inside = new Long2ObjectOpenHashMap<>();
+        private Long2ObjectMap<Location> scratch = new Long2ObjectOpenHashMap<>();
+    }
+}
@@ -0,0 +1,219 @@
+package de.district.core.location.service;
+
+import de.district.api.location.Location;
+import de.district.api.location.LocationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@code LocationSnapshot} class is an immutable view of all locations at a point in time, grouped by id,
+ * world and {@link LocationType}.
+ *
+ * <p>Snapshots are never modified. A change produces a new snapshot through {@link #with(Location)},
+ * {@link #withAll(Collection)}, {@link #without(long)}, {@link #withWorld(String, Collection)} or
+ * {@link #withoutWorld(String)}, which is then published by the {@link CoreLocationService}. A snapshot only
+ * contains the locations of the loaded worlds. Readers can therefore access a snapshot from any thread without
+ * locking.</p>
+ *
+ * @author Erik Pförtner
+ * @see CoreLocationService
+ * @since 1.0.0
+ */
+public final class LocationSnapshot {
+
+    /**
+     * The snapshot used before the locations have been loaded.
+     */
+    static final LocationSnapshot EMPTY = new LocationSnapshot(Map.of(), false);
+
+    private final Map<Long, Location> byId;
+    private final List<Location> all;
+    private final Map<LocationType, List<Location>> byType;
+    private final Map<String, List<Location>> byWorld;
+    private final Map<String, Map<LocationType, List<Location>>> byWorldAndType;
+    private final boolean loaded;
+
+    private LocationSnapshot(@NotNull final Map<Long, Location> byId, final boolean loaded) {
+        this.byId = Collections.unmodifiableMap(byId);
+        this.all = List.copyOf(byId.values());
+        this.loaded = loaded;
+
+        Map<LocationType, List<Location>> types = new EnumMap<>(LocationType.class);
+        Map<String, List<Location>> worlds = new HashMap<>();
+        Map<String, Map<LocationType, List<Location>>> worldTypes = new HashMap<>();
+        for (Location location : this.all) {
+            types.computeIfAbsent(location.getType(), type -> new ArrayList<>()).add(location);
+            worlds.computeIfAbsent(location.getWorld(), world -> new ArrayList<>()).add(location);
+            worldTypes.computeIfAbsent(location.getWorld(), world -> new EnumMap<>(LocationType.class))
+                    .computeIfAbsent(location.getType(), type -> new ArrayList<>())
+                    .add(location);
+        }
+
+        types.replaceAll((type, locations) -> List.copyOf(locations));
+        worlds.replaceAll((world, locations) -> List.copyOf(locations));
+        worldTypes.replaceAll((world, typeMap) -> {
+            typeMap.replaceAll((type, locations) -> List.copyOf(locations));
+            return Collections.unmodifiableMap(typeMap);
+        });
+        this.byType = Collections.unmodifiableMap(types);
+        this.byWorld = Map.copyOf(worlds);
+        this.byWorldAndType = Map.copyOf(worldTypes);
+    }
+
+    /**
+     * Creates a new snapshot of the specified locations.
+     *
+     * @param locations the locations of the snapshot.
+     * @return the new snapshot.
+     */
+    static @NotNull LocationSnapshot of(@NotNull final Collection<? extends Location> locations) {
+        Map<Long, Location> byId = new LinkedHashMap<>();
+        for (Location location : locations) {
+            byId.put(location.getId(), location);
+        }
+        return new LocationSnapshot(byId, true);
+    }
+
+    /**
+     * Creates a copy of this snapshot that contains the specified location, replacing the location with the same id.
+     *
+     * @param location the location to add or replace.
+     * @return the new snapshot.
+     */
+    @NotNull LocationSnapshot with(@NotNull final Location location) {
+        Map<Long, Location> byId = new LinkedHashMap<>(this.byId);
+        byId.put(location.getId(), location);
+        return new LocationSnapshot(byId, this.loaded);
+    }
+
+    /**
+     * Creates a copy of this snapshot that contains the specified locations, replacing the locations with the same
+     * ids. The snapshot is copied only once for all locations.
+     *
+     * @param locations the locations to add or replace.
+     * @return the new snapshot.
+     */
+    @NotNull LocationSnapshot withAll(@NotNull final Collection<? extends Location> locations) {
+        Map<Long, Location> byId = new LinkedHashMap<>(this.byId);
+        for (Location location : locations) {
+            byId.put(location.getId(), location);
+        }
+        return new LocationSnapshot(byId, this.loaded);
+    }
+
+    /**
+     * Creates a copy of this snapshot without the location with the specified id.
+     *
+     * @param id the id of the location to remove.
+     * @return the new snapshot, or this snapshot if it does not contain the location.
+     */
+    @NotNull LocationSnapshot without(final long id) {
+        if (!this.byId.containsKey(id)) {
+            return this;
+        }
+        Map<Long, Location> byId = new LinkedHashMap<>(this.byId);
+        byId.remove(id);
+        return new LocationSnapshot(byId, this.loaded);
+    }
+
+    /**
+     * Creates a copy of this snapshot in which the locations of the specified world are replaced by the specified
+     * locations.
+     *
+     * @param world     the name of the world.
+     * @param locations the locations of the world.
+     * @return the new snapshot.
+     */
+    @NotNull LocationSnapshot withWorld(@NotNull final String world, @NotNull final Collection<? extends Location> locations) {
+        Map<Long, Location> byId = new LinkedHashMap<>(this.byId);
+        byId.values().removeIf(location -> location.getWorld().equals(world));
+        for (Location location : locations) {
+            byId.put(location.getId(), location);
+        }
+        return new LocationSnapshot(byId, this.loaded);
+    }
+
+    /**
+     * Creates a copy of this snapshot without the locations of the specified world.
+     *
+     * @param world the name of the world.
+     * @return the new snapshot, or this snapshot if it does not contain locations of the world.
+     */
+    @NotNull LocationSnapshot withoutWorld(@NotNull final String world) {
+        if (!this.byWorld.containsKey(world)) {
+            return this;
+        }
+        Map<Long, Location> byId = new LinkedHashMap<>(this.byId);
+        byId.values().removeIf(location -> location.getWorld().equals(world));
+        return new LocationSnapshot(byId, this.loaded);
+    }
+
+    /**
+     * Checks whether this snapshot has been loaded from the database.
+     *
+     * @return {@code true} if this snapshot contains the loaded locations, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Retrieves the location with the specified id.
+     *
+     * @param id the id of the location.
+     * @return an {@link Optional} containing the location, or empty if it is not part of this snapshot.
+     */
+    public Optional<Location> get(final long id) {
+        return Optional.ofNullable(this.byId.get(id));
+    }
+
+    /**
+     * Retrieves all locations of this snapshot.
+     *
+     * @return an unmodifiable list of all locations.
+     */
+    public @NotNull List<Location> getAll() {
+        return this.all;
+    }
+
+    /**
+     * Retrieves all locations of the specified type.
+     *
+     * @param type the type of the locations.
+     * @return an unmodifiable list of the locations of the type.
+     */
+    public @NotNull List<Location> getByType(@NotNull final LocationType type) {
+        return this.byType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Retrieves all locations in the specified world.
+     *
+     * @param world the name of the world.
+     * @return an unmodifiable list of the locations in the world.
+     */
+    public @NotNull List<Location> getByWorld(@NotNull final String world) {
+        return this.byWorld.getOrDefault(world, List.of());
+    }
+
+    /**
+     * Retrieves all locations of the specified type in the specified world.
+     *
+     * @param world the name of the world.
+     * @param type the type of the locations.
+     * @return an unmodifiable list of the locations of the type in the world.
+     */
+    public @NotNull List<Location> getByWorldAndType(@NotNull final String world, @NotNull final LocationType type) {
+        Map<LocationType, List<Location>> types = this.byWorldAndType.get(world);
+        return types == null ? List.of() : types.getOrDefault(type, List.of());
+    }
+}
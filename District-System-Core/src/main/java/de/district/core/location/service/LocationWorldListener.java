@@ -0,0 +1,60 @@
+package de.district.core.location.service;
+
+import de.district.core.DistrictRoleplay;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * The {@code LocationWorldListener} class loads and drops the locations of a world together with the world, so
+ * only the locations of the loaded worlds are kept in memory.
+ *
+ * <p>The locations of a loaded world are queried asynchronously and published by the {@link CoreLocationService}
+ * once they are available. The locations of an unloaded world are dropped immediately.</p>
+ *
+ * @author Erik Pförtner
+ * @see CoreLocationService#loadWorld(String)
+ * @see CoreLocationService#unloadWorld(String)
+ * @since 1.0.0
+ */
+@Service
+public class LocationWorldListener implements Listener {
+
+    @Autowired
+    private CoreLocationService locationService;
+
+    @Autowired
+    private LocationProximityTracker proximityTracker;
+
+    /**
+     * Loads the locations of the loaded world asynchronously.
+     *
+     * @param event the event that is triggered when a world is loaded.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(@NotNull final WorldLoadEvent event) {
+        String world = event.getWorld().getName();
+        this.locationService.activateWorld(world);
+        Bukkit.getScheduler().runTaskAsynchronously(JavaPlugin.getPlugin(DistrictRoleplay.class),
+                () -> this.locationService.loadWorld(world));
+    }
+
+    /**
+     * Drops the locations of the unloaded world and lets all players leave them.
+     *
+     * @param event the event that is triggered when a world is unloaded.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(@NotNull final WorldUnloadEvent event) {
+        String world = event.getWorld().getName();
+        this.locationService.unloadWorld(world);
+        this.proximityTracker.leaveWorld(world);
+    }
+}
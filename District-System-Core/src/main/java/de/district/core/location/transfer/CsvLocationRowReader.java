@@ -0,0 +1,97 @@
+package de.district.core.location.transfer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a CSV file of locations line by line. The first line names the columns of the file, values may be quoted
+ * with double quotes if they contain a comma. Quoted values spanning several lines are not supported.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat#CSV
+ * @since 1.0.0
+ */
+final class CsvLocationRowReader implements LocationRowReader {
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private int line = 1;
+
+    CsvLocationRowReader(@NotNull final Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String header = this.reader.readLine();
+        if (header == null) {
+            throw new IOException("Expected a header line");
+        }
+        // Files saved by spreadsheet applications may start with a byte order mark.
+        this.header = parse(header.startsWith("\uFEFF") ? header.substring(1) : header);
+    }
+
+    @Override
+    public @Nullable Map<String, String> next() throws IOException {
+        String current;
+        do {
+            current = this.reader.readLine();
+            this.line++;
+            if (current == null) {
+                return null;
+            }
+        } while (current.isBlank());
+
+        List<String> values = parse(current);
+        if (values.size() != this.header.size()) {
+            throw new IOException(String.format("Line %d has %d columns, expected %d", this.line, values.size(), this.header.size()));
+        }
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            row.put(this.header.get(i).trim(), value.isEmpty() ? null : value);
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private List<String> parse(@NotNull final String line) throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IOException(String.format("Line %d contains an unterminated quote", this.line));
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,66 @@
+package de.district.core.location.transfer;
+
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.bank.domain.BankLoc;
+import de.district.core.location.domain.BaseLocationEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes locations as a CSV file with a header line.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat#CSV
+ * @since 1.0.0
+ */
+final class CsvLocationRowWriter implements LocationRowWriter {
+
+    private final Writer writer;
+
+    CsvLocationRowWriter(@NotNull final Writer writer) throws IOException {
+        this.writer = writer;
+        this.writer.write(String.join(",", LocationFileFormat.COLUMNS));
+        this.writer.write('\n');
+    }
+
+    @Override
+    public void write(@NotNull final BaseLocationEntity location) throws IOException {
+        String provider = null;
+        String availableMoney = null;
+        if (location instanceof Atm atm) {
+            provider = atm.getProvider();
+            availableMoney = Double.toString(atm.getAvailableMoney());
+        } else if (location instanceof BankLoc bank) {
+            provider = bank.getProvider();
+        }
+
+        this.writer.write(escape(location.getType().getName()) + ','
+                + escape(location.getName()) + ','
+                + escape(location.getWorld()) + ','
+                + location.getX() + ','
+                + location.getY() + ','
+                + location.getZ() + ','
+                + escape(provider) + ','
+                + escape(availableMoney) + '\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private static String escape(@Nullable final String value) {
+        if (value == null) {
+            return "";
+        }
+        // Line breaks cannot be represented by the reader, so they are replaced by spaces.
+        String line = value.replace('\r', ' ').replace('\n', ' ');
+        if (line.indexOf(',') < 0 && line.indexOf('"') < 0) {
+            return line;
+        }
+        return '"' + line.replace("\"", "\"\"") + '"';
+    }
+}
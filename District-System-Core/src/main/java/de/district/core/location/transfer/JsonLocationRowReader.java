@@ -0,0 +1,62 @@
+package de.district.core.location.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a JSON array of location objects token by token, so only the current location is held in memory.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat#JSON
+ * @since 1.0.0
+ */
+final class JsonLocationRowReader implements LocationRowReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    JsonLocationRowReader(@NotNull final Reader reader) throws IOException {
+        this.parser = FACTORY.createParser(reader);
+        if (this.parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array of locations");
+        }
+    }
+
+    @Override
+    public @Nullable Map<String, String> next() throws IOException {
+        JsonToken token = this.parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException(String.format("Expected a location object at %s", this.parser.currentLocation()));
+        }
+
+        Map<String, String> row = new HashMap<>();
+        while (this.parser.nextToken() == JsonToken.FIELD_NAME) {
+            String column = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+            if (value.isStructStart()) {
+                // Nested values are not part of the format and are skipped as a whole.
+                this.parser.skipChildren();
+                continue;
+            }
+            row.put(column, value == JsonToken.VALUE_NULL ? null : this.parser.getText());
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+}
@@ -0,0 +1,54 @@
+package de.district.core.location.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.bank.domain.BankLoc;
+import de.district.core.location.domain.BaseLocationEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes locations as a JSON array of location objects.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat#JSON
+ * @since 1.0.0
+ */
+final class JsonLocationRowWriter implements LocationRowWriter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    JsonLocationRowWriter(@NotNull final Writer writer) throws IOException {
+        this.generator = FACTORY.createGenerator(writer).useDefaultPrettyPrinter();
+        this.generator.writeStartArray();
+    }
+
+    @Override
+    public void write(@NotNull final BaseLocationEntity location) throws IOException {
+        this.generator.writeStartObject();
+        this.generator.writeStringField(LocationFileFormat.TYPE, location.getType().getName());
+        this.generator.writeStringField(LocationFileFormat.NAME, location.getName());
+        this.generator.writeStringField(LocationFileFormat.WORLD, location.getWorld());
+        this.generator.writeNumberField(LocationFileFormat.X, location.getX());
+        this.generator.writeNumberField(LocationFileFormat.Y, location.getY());
+        this.generator.writeNumberField(LocationFileFormat.Z, location.getZ());
+        if (location instanceof Atm atm) {
+            this.generator.writeStringField(LocationFileFormat.PROVIDER, atm.getProvider());
+            this.generator.writeNumberField(LocationFileFormat.AVAILABLE_MONEY, atm.getAvailableMoney());
+        } else if (location instanceof BankLoc bank) {
+            this.generator.writeStringField(LocationFileFormat.PROVIDER, bank.getProvider());
+        }
+        this.generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.generator.writeEndArray();
+        this.generator.close();
+    }
+}
@@ -0,0 +1,113 @@
+package de.district.core.location.transfer;
+
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.bank.domain.BankLoc;
+import de.district.core.location.domain.BaseLocationEntity;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code LocationBulkWriter} class inserts locations in JDBC batches.
+ *
+ * <p>Hibernate cannot batch inserts of entities with {@code IDENTITY} ids, since it has to read the generated id
+ * after every single insert. This writer inserts a whole chunk of locations into the {@code locations} table with
+ * one batch, reads the generated ids of the batch and then inserts the rows of the subclass tables with one batch
+ * per table. The persistence context and the location snapshot are bypassed, so the caller has to reload the
+ * locations once all chunks have been written.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationTransferService
+ * @since 1.0.0
+ */
+@Component
+public class LocationBulkWriter {
+
+    private static final String INSERT_LOCATION = "INSERT INTO locations (location_type, name, world, x, y, z) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ATM = "INSERT INTO atms (id, provider, available_money) VALUES (?, ?, ?)";
+    private static final String INSERT_BANK = "INSERT INTO banks (id, provider) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocationBulkWriter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the specified locations within a single transaction and assigns the generated ids to them.
+     *
+     * @param locations the locations to insert.
+     * @throws IllegalStateException if the database did not return a generated id for every location.
+     */
+    @Transactional
+    public void insert(@NotNull final List<BaseLocationEntity> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_LOCATION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NotNull final PreparedStatement statement, final int index) throws SQLException {
+                        BaseLocationEntity location = locations.get(index);
+                        // The discriminator column is not insertable through the entity, so it is written explicitly.
+                        statement.setString(1, location.getType().name());
+                        statement.setString(2, location.getName());
+                        statement.setString(3, location.getWorld());
+                        statement.setDouble(4, location.getX());
+                        statement.setDouble(5, location.getY());
+                        statement.setDouble(6, location.getZ());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return locations.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != locations.size()) {
+            throw new IllegalStateException(String.format("Expected %d generated ids, but got %d", locations.size(), keys.size()));
+        }
+
+        List<Atm> atms = new ArrayList<>();
+        List<BankLoc> banks = new ArrayList<>();
+        for (int i = 0; i < locations.size(); i++) {
+            BaseLocationEntity location = locations.get(i);
+            location.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            if (location instanceof Atm atm) {
+                atms.add(atm);
+            } else if (location instanceof BankLoc bank) {
+                banks.add(bank);
+            }
+        }
+
+        if (!atms.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(INSERT_ATM, atms, atms.size(), (statement, atm) -> {
+                statement.setLong(1, atm.getId());
+                statement.setString(2, atm.getProvider());
+                statement.setDouble(3, atm.getAvailableMoney());
+            });
+        }
+        if (!banks.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(INSERT_BANK, banks, banks.size(), (statement, bank) -> {
+                statement.setLong(1, bank.getId());
+                statement.setString(2, bank.getProvider());
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package de.district.core.location.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The {@code LocationFileFormat} enum represents the file formats in which locations can be imported and exported.
+ *
+ * <p>Both formats describe a location by the same columns, see {@link #COLUMNS}. A JSON file contains an array of
+ * objects with these keys, a CSV file contains a header line with these columns followed by one line per
+ * location.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationTransferService
+ * @since 1.0.0
+ */
+public enum LocationFileFormat {
+
+    JSON("json") {
+        @Override
+        @NotNull LocationRowReader openReader(@NotNull final Reader reader) throws IOException {
+            return new JsonLocationRowReader(reader);
+        }
+
+        @Override
+        @NotNull LocationRowWriter openWriter(@NotNull final Writer writer) throws IOException {
+            return new JsonLocationRowWriter(writer);
+        }
+    },
+
+    CSV("csv") {
+        @Override
+        @NotNull LocationRowReader openReader(@NotNull final Reader reader) throws IOException {
+            return new CsvLocationRowReader(reader);
+        }
+
+        @Override
+        @NotNull LocationRowWriter openWriter(@NotNull final Writer writer) throws IOException {
+            return new CsvLocationRowWriter(writer);
+        }
+    };
+
+    public static final String TYPE = "type";
+    public static final String NAME = "name";
+    public static final String WORLD = "world";
+    public static final String X = "x";
+    public static final String Y = "y";
+    public static final String Z = "z";
+    public static final String PROVIDER = "provider";
+    public static final String AVAILABLE_MONEY = "availableMoney";
+
+    /**
+     * The columns describing a location, in the order in which they are exported.
+     */
+    public static final List<String> COLUMNS = List.of(TYPE, NAME, WORLD, X, Y, Z, PROVIDER, AVAILABLE_MONEY);
+
+    private final String extension;
+
+    LocationFileFormat(@NotNull final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Determines the file format by the extension of the specified file name.
+     *
+     * @param fileName the name of the file.
+     * @return an {@link Optional} containing the file format, or empty if the extension is not supported.
+     */
+    public static Optional<LocationFileFormat> fromFileName(@NotNull final String fileName) {
+        int separator = fileName.lastIndexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        String extension = fileName.substring(separator + 1).toLowerCase(Locale.ROOT);
+        for (LocationFileFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @NotNull
+    public String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * Opens a reader that reads the locations row by row from the specified reader.
+     *
+     * @param reader the reader to read from.
+     * @return the row reader.
+     * @throws IOException if the beginning of the file cannot be read.
+     */
+    abstract @NotNull LocationRowReader openReader(@NotNull final Reader reader) throws IOException;
+
+    /**
+     * Opens a writer that writes the locations row by row to the specified writer.
+     *
+     * @param writer the writer to write to.
+     * @return the row writer.
+     * @throws IOException if the beginning of the file cannot be written.
+     */
+    abstract @NotNull LocationRowWriter openWriter(@NotNull final Writer writer) throws IOException;
+}
@@ -0,0 +1,18 @@
+package de.district.core.location.transfer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The result of a location import.
+ *
+ * @param imported the amount of locations that have been imported.
+ * @param rejected the amount of entries that have been rejected, because they were invalid.
+ * @param errors   the reasons of the first rejected entries.
+ * @author Erik Pförtner
+ * @see LocationTransferService#importLocations(java.nio.file.Path, java.util.Map)
+ * @since 1.0.0
+ */
+public record LocationImportResult(int imported, int rejected, @NotNull List<String> errors) {
+}
@@ -0,0 +1,26 @@
+package de.district.core.location.transfer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Reads the locations of a location file one row at a time, so files of any size can be imported without
+ * holding them in memory.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat
+ * @since 1.0.0
+ */
+interface LocationRowReader extends Closeable {
+
+    /**
+     * Reads the next row of the file.
+     *
+     * @return the values of the row by their column, or {@code null} if the end of the file has been reached.
+     * @throws IOException if the row cannot be read or is malformed.
+     */
+    @Nullable Map<String, String> next() throws IOException;
+}
@@ -0,0 +1,25 @@
+package de.district.core.location.transfer;
+
+import de.district.core.location.domain.BaseLocationEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes locations to a location file one row at a time.
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat
+ * @since 1.0.0
+ */
+interface LocationRowWriter extends Closeable {
+
+    /**
+     * Writes the specified location as the next row of the file.
+     *
+     * @param location the location to write.
+     * @throws IOException if the row cannot be written.
+     */
+    void write(@NotNull final BaseLocationEntity location) throws IOException;
+}
@@ -0,0 +1,288 @@
+package de.district.core.location.transfer;
+
+import de.district.api.DistrictAPI;
+import de.district.api.location.LocationType;
+import de.district.core.economy.location.atm.domain.Atm;
+import de.district.core.economy.location.bank.domain.BankLoc;
+import de.district.core.location.config.LocationConfiguration;
+import de.district.core.location.domain.BaseLocationEntity;
+import de.district.core.location.service.CoreLocationService;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code LocationTransferService} class imports and exports locations from and to files in the
+ * {@value #DIRECTORY} folder of the plugin data folder.
+ *
+ * <p>Imports are streamed row by row, so files of any size can be imported. Every row is validated against the
+ * worlds of the server, valid rows are written in chunks of {@link LocationConfiguration#getImportBatchSize()}
+ * locations by the {@link LocationBulkWriter}. Since the bulk writer bypasses the {@link CoreLocationService},
+ * the locations are reloaded once after the last chunk, which rebuilds the snapshot and the spatial index a single
+ * time.</p>
+ *
+ * <p>Imports and exports perform blocking I/O and should not be called from the main thread.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocationFileFormat
+ * @since 1.0.0
+ */
+@Service
+public class LocationTransferService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocationTransferService.class);
+
+    /**
+     * The name of the folder within the plugin data folder that contains the location files.
+     */
+    public static final String DIRECTORY = "locations";
+    /**
+     * The maximum amount of rejected entries whose reason is reported.
+     */
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    @Autowired
+    private CoreLocationService locationService;
+
+    @Autowired
+    private LocationBulkWriter bulkWriter;
+
+    @Autowired
+    private LocationConfiguration locationConfiguration;
+
+    /**
+     * The height bounds and the world border of a world, captured on the main thread so rows can be validated
+     * asynchronously.
+     *
+     * @param minHeight     the inclusive minimum height of the world.
+     * @param maxHeight     the exclusive maximum height of the world.
+     * @param borderCenterX the x-coordinate of the center of the world border.
+     * @param borderCenterZ the z-coordinate of the center of the world border.
+     * @param borderRadius  half of the side length of the world border.
+     */
+    public record WorldBounds(int minHeight, int maxHeight, double borderCenterX, double borderCenterZ, double borderRadius) {
+
+        /**
+         * Checks whether the specified coordinates lie within the world border.
+         *
+         * @param x the x-coordinate.
+         * @param z the z-coordinate.
+         * @return {@code true} if the coordinates lie within the world border, {@code false} otherwise.
+         */
+        public boolean isInsideBorder(final double x, final double z) {
+            return Math.abs(x - this.borderCenterX) <= this.borderRadius && Math.abs(z - this.borderCenterZ) <= this.borderRadius;
+        }
+    }
+
+    /**
+     * Captures the bounds of all loaded worlds. This method must be called from the main thread.
+     *
+     * @return the bounds of the loaded worlds by their name.
+     */
+    public static @NotNull Map<String, WorldBounds> captureWorlds() {
+        Map<String, WorldBounds> worlds = new HashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            WorldBorder border = world.getWorldBorder();
+            worlds.put(world.getName(), new WorldBounds(world.getMinHeight(), world.getMaxHeight(),
+                    border.getCenter().getX(), border.getCenter().getZ(), border.getSize() / 2.0));
+        }
+        return worlds;
+    }
+
+    /**
+     * Resolves the specified file name within the {@value #DIRECTORY} folder.
+     *
+     * @param fileName the name of the file.
+     * @return the path of the file.
+     * @throws IllegalArgumentException if the file name points outside of the folder or has an unsupported extension.
+     */
+    public @NotNull Path resolve(@NotNull final String fileName) {
+        Path directory = DistrictAPI.getDataFolder().toPath().resolve(DIRECTORY).normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory) || file.equals(directory)) {
+            throw new IllegalArgumentException("Die Datei muss im Ordner " + DIRECTORY + " liegen.");
+        }
+        if (LocationFileFormat.fromFileName(file.getFileName().toString()).isEmpty()) {
+            throw new IllegalArgumentException("Es werden nur .json- und .csv-Dateien unterstützt.");
+        }
+        return file;
+    }
+
+    /**
+     * Imports all valid locations of the specified file. Invalid entries are skipped and reported in the result.
+     *
+     * <p>Every chunk is written in its own transaction. If the file cannot be read completely, the chunks written so
+     * far are kept and their worlds are reloaded nevertheless.</p>
+     *
+     * @param file   the file to import, see {@link #resolve(String)}.
+     * @param worlds the bounds of the loaded worlds, see {@link #captureWorlds()}.
+     * @return the result of the import.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public @NotNull LocationImportResult importLocations(@NotNull final Path file, @NotNull final Map<String, WorldBounds> worlds) throws IOException {
+        LocationFileFormat format = format(file);
+        int batchSize = Math.max(1, this.locationConfiguration.getImportBatchSize());
+        List<BaseLocationEntity> chunk = new ArrayList<>(batchSize);
+        List<String> errors = new ArrayList<>();
+        Set<String> importedWorlds = new HashSet<>();
+        int imported = 0;
+        int rejected = 0;
+        int entry = 0;
+
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             LocationRowReader reader = format.openReader(in)) {
+            Map<String, String> row;
+            while ((row = reader.next()) != null) {
+                entry++;
+                try {
+                    chunk.add(toLocation(row, worlds));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add("Eintrag " + entry + ": " + e.getMessage());
+                    }
+                    continue;
+                }
+
+                if (chunk.size() >= batchSize) {
+                    imported += write(chunk, importedWorlds);
+                }
+            }
+
+            imported += write(chunk, importedWorlds);
+        } finally {
+            for (String world : importedWorlds) {
+                this.locationService.loadWorld(world);
+            }
+            LOGGER.info("Imported {} locations from {}, {} entries have been rejected.", imported, file.getFileName(), rejected);
+        }
+        return new LocationImportResult(imported, rejected, List.copyOf(errors));
+    }
+
+    /**
+     * Exports all locations, including the locations of worlds that are not loaded, to the specified file. An
+     * existing file is overwritten.
+     *
+     * @param file the file to export to, see {@link #resolve(String)}.
+     * @return the amount of exported locations.
+     * @throws IOException if the file cannot be written.
+     */
+    public int exportLocations(@NotNull final Path file) throws IOException {
+        LocationFileFormat format = format(file);
+        Files.createDirectories(file.getParent());
+
+        int exported = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             LocationRowWriter writer = format.openWriter(out)) {
+            for (BaseLocationEntity location : this.locationService.findAllPersistedLocations()) {
+                writer.write(location);
+                exported++;
+            }
+        }
+        LOGGER.info("Exported {} locations to {}.", exported, file.getFileName());
+        return exported;
+    }
+
+    private int write(@NotNull final List<BaseLocationEntity> chunk, @NotNull final Set<String> importedWorlds) {
+        this.bulkWriter.insert(chunk);
+        int written = chunk.size();
+        for (BaseLocationEntity location : chunk) {
+            importedWorlds.add(location.getWorld());
+        }
+        chunk.clear();
+        return written;
+    }
+
+    private static LocationFileFormat format(@NotNull final Path file) {
+        return LocationFileFormat.fromFileName(file.getFileName().toString())
+                .orElseThrow(() -> new IllegalArgumentException("Es werden nur .json- und .csv-Dateien unterstützt."));
+    }
+
+    private static BaseLocationEntity toLocation(@NotNull final Map<String, String> row, @NotNull final Map<String, WorldBounds> worlds) {
+        LocationType type = LocationType.fromName(row.get(LocationFileFormat.TYPE));
+        if (type == null) {
+            throw new IllegalArgumentException("Unbekannter Typ '" + row.get(LocationFileFormat.TYPE) + "'");
+        }
+
+        String name = required(row, LocationFileFormat.NAME);
+        String world = required(row, LocationFileFormat.WORLD);
+        WorldBounds bounds = worlds.get(world);
+        if (bounds == null) {
+            throw new IllegalArgumentException("Unbekannte Welt '" + world + "'");
+        }
+
+        double x = number(row, LocationFileFormat.X);
+        double y = number(row, LocationFileFormat.Y);
+        double z = number(row, LocationFileFormat.Z);
+        if (!bounds.isInsideBorder(x, z)) {
+            throw new IllegalArgumentException("Die Koordinaten liegen außerhalb der Weltgrenze");
+        }
+        if (y < bounds.minHeight() || y >= bounds.maxHeight()) {
+            throw new IllegalArgumentException("Die Höhe muss zwischen " + bounds.minHeight() + " und " + bounds.maxHeight() + " liegen");
+        }
+
+        BaseLocationEntity location = switch (type) {
+            case ATM -> {
+                Atm atm = new Atm();
+                atm.setProvider(required(row, LocationFileFormat.PROVIDER));
+                String availableMoney = row.get(LocationFileFormat.AVAILABLE_MONEY);
+                atm.setAvailableMoney(availableMoney == null ? 0.0 : number(row, LocationFileFormat.AVAILABLE_MONEY));
+                if (atm.getAvailableMoney() < 0) {
+                    throw new IllegalArgumentException("Das verfügbare Geld darf nicht negativ sein");
+                }
+                yield atm;
+            }
+            case BANK -> {
+                BankLoc bank = new BankLoc();
+                bank.setProvider(required(row, LocationFileFormat.PROVIDER));
+                yield bank;
+            }
+        };
+        location.setName(name);
+        location.setWorld(world);
+        location.setX(x);
+        location.setY(y);
+        location.setZ(z);
+        return location;
+    }
+
+    private static String required(@NotNull final Map<String, String> row, @NotNull final String column) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Die Spalte '" + column + "' fehlt");
+        }
+        return value.trim();
+    }
+
+    private static double number(@NotNull final Map<String, String> row, @NotNull final String column) {
+        String value = required(row, column);
+        double number;
+        try {
+            number = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Die Spalte '" + column + "' enthält keine Zahl: '" + value + "'");
+        }
+        if (!Double.isFinite(number)) {
+            throw new IllegalArgumentException("Die Spalte '" + column + "' enthält keine endliche Zahl");
+        }
+        return number;
+    }
+}
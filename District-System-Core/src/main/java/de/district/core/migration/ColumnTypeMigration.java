@@ -0,0 +1,89 @@
+package de.district.core.migration;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code ColumnTypeMigration} class replaces a character column by a column of another type, converting all
+ * existing values.
+ *
+ * <p>DDL statements are committed implicitly, so a migration can be interrupted between any two steps. Every step is
+ * therefore guarded by the current state of the schema, and an interrupted migration is resumed on the next start:</p>
+ * <ol>
+ *     <li>The converted values are written into a temporary column, which is added if it does not exist yet.</li>
+ *     <li>The original column is only dropped once no converted value is {@code NULL}. Otherwise the migration is
+ *     aborted with the original column kept, so malformed rows can be fixed by hand.</li>
+ *     <li>The temporary column is renamed to the original name. If the original column was dropped and Hibernate
+ *     has added an empty column of the new type in the meantime, its values are merged and it is replaced.</li>
+ * </ol>
+ *
+ * @since 1.0.0
+ * @author Erik Pförtner
+ * @see SchemaInspector
+ */
+@Component
+public class ColumnTypeMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnTypeMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaInspector schemaInspector;
+
+    public ColumnTypeMigration(final JdbcTemplate jdbcTemplate, final SchemaInspector schemaInspector) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schemaInspector = schemaInspector;
+    }
+
+    /**
+     * Migrates the specified column if it is still of a character type or if a previous migration was interrupted.
+     *
+     * @param table the name of the table.
+     * @param column the name of the column.
+     * @param temporaryColumn the name of the temporary column holding the converted values.
+     * @param definition the SQL type of the migrated column, without nullability.
+     * @param conversion the SQL expression converting the value of the original column, evaluating to {@code NULL}
+     *                   if the value cannot be converted.
+     * @return {@code true} if the column has been migrated, {@code false} if it was already migrated.
+     * @throws IllegalStateException if some values could not be converted.
+     */
+    public boolean migrate(@NotNull final String table, @NotNull final String column, @NotNull final String temporaryColumn,
+                           @NotNull final String definition, @NotNull final String conversion) {
+        boolean original = this.schemaInspector.isCharacterColumn(table, column);
+        boolean pending = this.schemaInspector.hasColumn(table, temporaryColumn);
+        if (!original && !pending) {
+            return false;
+        }
+
+        LOGGER.info("Migrating {}.{} to {}{}...", table, column, definition, pending ? " (resuming)" : "");
+        if (!pending) {
+            this.jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + temporaryColumn + " " + definition + " NULL");
+        }
+
+        if (original) {
+            this.jdbcTemplate.update("UPDATE " + table + " SET " + temporaryColumn + " = " + conversion + " WHERE " + temporaryColumn + " IS NULL");
+        } else if (this.schemaInspector.hasColumn(table, column)) {
+            // The original column is gone, this column was added by Hibernate and may already hold new rows.
+            this.jdbcTemplate.update("UPDATE " + table + " SET " + temporaryColumn + " = " + column + " WHERE " + temporaryColumn + " IS NULL");
+        }
+        requireConverted(table, column, temporaryColumn);
+
+        if (this.schemaInspector.hasColumn(table, column)) {
+            this.jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+        }
+        this.jdbcTemplate.execute("ALTER TABLE " + table + " CHANGE COLUMN " + temporaryColumn + " " + column + " " + definition + " NOT NULL");
+        LOGGER.info("Migration of {}.{} has been completed successfully.", table, column);
+        return true;
+    }
+
+    private void requireConverted(@NotNull final String table, @NotNull final String column, @NotNull final String temporaryColumn) {
+        Long failed = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + temporaryColumn + " IS NULL", Long.class);
+        if (failed != null && failed > 0) {
+            throw new IllegalStateException(String.format(
+                    "Could not migrate %s.%s, %d rows could not be converted. The original column has been kept, "
+                            + "fix or remove these rows and restart the server.", table, column, failed));
+        }
+    }
+}
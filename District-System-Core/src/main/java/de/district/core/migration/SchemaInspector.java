@@ -0,0 +1,73 @@
+package de.district.core.migration;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.OptionalInt;
+
+/**
+ * The {@code SchemaInspector} class reads the current state of the database schema through the JDBC metadata, so
+ * migrations can find out which of their steps have already been applied.
+ *
+ * @since 1.0.0
+ * @author Erik Pförtner
+ * @see ColumnTypeMigration
+ */
+@Component
+public class SchemaInspector {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaInspector(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Retrieves the SQL type of the specified column.
+     *
+     * @param table the name of the table.
+     * @param column the name of the column.
+     * @return the {@link Types SQL type} of the column, or an empty {@link OptionalInt} if the column does not exist.
+     */
+    public @NotNull OptionalInt getColumnType(@NotNull final String table, @NotNull final String column) {
+        OptionalInt type = this.jdbcTemplate.execute((ConnectionCallback<OptionalInt>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next() ? OptionalInt.of(columns.getInt("DATA_TYPE")) : OptionalInt.empty();
+            }
+        });
+        return type == null ? OptionalInt.empty() : type;
+    }
+
+    /**
+     * Checks whether the specified column exists.
+     *
+     * @param table the name of the table.
+     * @param column the name of the column.
+     * @return {@code true} if the column exists, {@code false} otherwise.
+     */
+    public boolean hasColumn(@NotNull final String table, @NotNull final String column) {
+        return getColumnType(table, column).isPresent();
+    }
+
+    /**
+     * Checks whether the specified column exists and is of a character type.
+     *
+     * @param table the name of the table.
+     * @param column the name of the column.
+     * @return {@code true} if the column is of a character type, {@code false} if it is not or does not exist.
+     */
+    public boolean isCharacterColumn(@NotNull final String table, @NotNull final String column) {
+        OptionalInt type = getColumnType(table, column);
+        if (type.isEmpty()) {
+            return false;
+        }
+        int value = type.getAsInt();
+        return value == Types.VARCHAR || value == Types.CHAR || value == Types.NVARCHAR || value == Types.LONGVARCHAR;
+    }
+}
@@ -0,0 +1,119 @@
+package de.district.core.user.aggregate;
+
+import de.district.core.character.domain.Character;
+import de.district.core.economy.domain.Bank;
+import de.district.core.economy.domain.Economy;
+import de.district.core.user.domain.User;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@code PlayerAggregate} class holds the persistent state of an online player, consisting of the
+ * {@link User}, the {@link Economy}, the {@link Bank} and the {@link Character} entity.
+ *
+ * <p>The aggregate is loaded once during pre-login by the {@link PlayerAggregateService} and attached to the
+ * player's session. All entities are detached, changes are written back by the owning services one entity at a
+ * time and the aggregate is updated afterwards. The optional parts of the aggregate are {@code null} if the
+ * player does not have them yet.</p>
+ *
+ * @author Erik Pförtner
+ * @see PlayerAggregateService
+ * @since 1.0.0
+ */
+public final class PlayerAggregate {
+
+    private final User user;
+    private volatile Economy economy;
+    private volatile Bank bank;
+    private volatile Character character;
+
+    /**
+     * Constructs a new {@code PlayerAggregate} with the specified entities.
+     *
+     * @param user      the user entity, never {@code null}.
+     * @param economy   the economy entity, or {@code null} if the user does not have one.
+     * @param bank      the bank entity, or {@code null} if the user does not have one.
+     * @param character the character entity, or {@code null} if the user does not have one.
+     */
+    public PlayerAggregate(@NotNull final User user,
+                           @Nullable final Economy economy,
+                           @Nullable final Bank bank,
+                           @Nullable final Character character) {
+        this.user = user;
+        this.economy = economy;
+        this.bank = bank;
+        this.character = character;
+    }
+
+    /**
+     * Retrieves the user entity of this aggregate.
+     *
+     * @return the user entity.
+     */
+    public @NotNull User getUser() {
+        return this.user;
+    }
+
+    /**
+     * Retrieves the id of the user of this aggregate.
+     *
+     * @return the id of the user.
+     */
+    public long getUserId() {
+        return this.user.getId();
+    }
+
+    /**
+     * Retrieves the economy entity of this aggregate.
+     *
+     * @return the economy entity, or {@code null} if the user does not have one.
+     */
+    public @Nullable Economy getEconomy() {
+        return this.economy;
+    }
+
+    /**
+     * Sets the economy entity of this aggregate.
+     *
+     * @param economy the economy entity, or {@code null} if it has been removed.
+     */
+    public void setEconomy(@Nullable final Economy economy) {
+        this.economy = economy;
+    }
+
+    /**
+     * Retrieves the bank entity of this aggregate.
+     *
+     * @return the bank entity, or {@code null} if the user does not have one.
+     */
+    public @Nullable Bank getBank() {
+        return this.bank;
+    }
+
+    /**
+     * Sets the bank entity of this aggregate.
+     *
+     * @param bank the bank entity, or {@code null} if it has been removed.
+     */
+    public void setBank(@Nullable final Bank bank) {
+        this.bank = bank;
+    }
+
+    /**
+     * Retrieves the character entity of this aggregate.
+     *
+     * @return the character entity, or {@code null} if the user does not have one.
+     */
+    public @Nullable Character getCharacter() {
+        return this.character;
+    }
+
+    /**
+     * Sets the character entity of this aggregate.
+     *
+     * @param character the character entity, or {@code null} if it has been removed.
+     */
+    public void setCharacter(@Nullable final Character character) {
+        this.character = character;
+    }
+}
@@ -0,0 +1,101 @@
+package de.district.core.user.aggregate;
+
+import de.district.core.character.domain.Character;
+import de.district.core.economy.domain.Bank;
+import de.district.core.economy.domain.Economy;
+import de.district.core.entity.CorePluginPlayer;
+import de.district.core.entity.PlayerSessionRegistry;
+import de.district.core.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The {@code PlayerAggregateService} class loads the {@link PlayerAggregate} of a player and gives the other services
+ * access to the aggregate of online players.
+ *
+ * <p>The aggregate is loaded with a single query that joins the {@link Economy}, {@link Bank} and {@link Character}
+ * entity to the {@link User}. It is meant to be called during pre-login, so the first interactions of a player
+ * after joining do not hit the database.</p>
+ *
+ * @author Erik Pförtner
+ * @see PlayerAggregate
+ * @since 1.0.0
+ */
+@Service
+public class PlayerAggregateService {
+
+    private static final String AGGREGATE_QUERY = """
+            SELECT u, e, b, c
+            FROM User u
+            LEFT JOIN Economy e ON e.user = u
+            LEFT JOIN Bank b ON b.user = u
+            LEFT JOIN Character c ON c.user = u
+            WHERE u.id = :userId
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlayerSessionRegistry sessionRegistry;
+
+    /**
+     * Loads the aggregate of the user with the specified id with a single query.
+     *
+     * @param userId the id of the user.
+     * @return an {@link Optional} containing the aggregate, or empty if the user does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PlayerAggregate> load(final long userId) {
+        List<Tuple> rows = entityManager.createQuery(AGGREGATE_QUERY, Tuple.class)
+                .setParameter("userId", userId)
+                .setMaxResults(1)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple row = rows.get(0);
+        return Optional.of(new PlayerAggregate(
+                row.get(0, User.class),
+                row.get(1, Economy.class),
+                row.get(2, Bank.class),
+                row.get(3, Character.class)));
+    }
+
+    /**
+     * Retrieves the aggregate of the online player with the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the aggregate of the player, or {@code null} if the player is not online or the aggregate has not been loaded.
+     */
+    public @Nullable PlayerAggregate getOnline(@NotNull final UUID uuid) {
+        CorePluginPlayer session = sessionRegistry.get(uuid);
+        return session == null ? null : session.getAggregate();
+    }
+
+    /**
+     * Passes the aggregate of every online player to the given consumer.
+     *
+     * @param consumer the consumer that is called for every loaded aggregate.
+     */
+    public void forEachOnline(@NotNull final Consumer<PlayerAggregate> consumer) {
+        for (CorePluginPlayer session : sessionRegistry.getSessions()) {
+            PlayerAggregate aggregate = session.getAggregate();
+            if (aggregate != null) {
+                consumer.accept(aggregate);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package de.district.core.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code UserConfiguration} class is a Spring component that holds the configuration properties
+ * for the user management within the plugin. This class uses the prefix "plugin.user" to map properties from the
+ * application's configuration file.
+ *
+ * <pre>
+ * plugin:
+ *   user:
+ *     preload-known-users: true
+ * </pre>
+ *
+ * @see ConfigurationProperties
+ * @see Component
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "plugin.user")
+public class UserConfiguration {
+
+    /**
+     * A flag indicating whether the ids of all known users are loaded into memory on startup.
+     *
+     * <p>When set to {@code true}, returning players are provisioned without any database access.
+     * Disable this on networks with a very large user base to trade login latency for memory.</p>
+     */
+    private boolean preloadKnownUsers = true;
+}
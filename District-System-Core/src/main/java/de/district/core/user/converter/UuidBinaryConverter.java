@@ -0,0 +1,60 @@
+package de.district.core.user.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * The {@code UuidBinaryConverter} class implements the {@link AttributeConverter} interface to convert
+ * {@link UUID} objects to their 16-byte binary representation for storage in the database and back to
+ * {@code UUID} objects when retrieving from the database.
+ *
+ * <p>Storing UUIDs as {@code BINARY(16)} instead of their 36-character string representation shrinks the
+ * column and every index on it by more than half and allows byte-wise comparisons on lookups.</p>
+ *
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<UUID, byte[]> {
+
+    /**
+     * The amount of bytes required to store a {@link UUID}.
+     */
+    public static final int UUID_BYTES = 16;
+
+    /**
+     * Converts the {@link UUID} entity attribute into its binary representation
+     * for storage in the database.
+     *
+     * @param attribute the {@code UUID} entity attribute to be converted
+     * @return the 16 bytes of the {@code UUID} in big-endian order, or {@code null} if the attribute is {@code null}
+     */
+    @Override
+    public byte[] convertToDatabaseColumn(final UUID attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(attribute.getMostSignificantBits())
+                .putLong(attribute.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Converts the binary data stored in the database column into a {@link UUID} entity attribute.
+     *
+     * @param dbData the binary data from the database column
+     * @return the corresponding {@code UUID} entity attribute, or {@code null} if the data is {@code null}
+     */
+    @Override
+    public UUID convertToEntityAttribute(final byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(dbData);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
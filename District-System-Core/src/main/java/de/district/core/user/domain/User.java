@@ -1,14 +1,17 @@
 package de.district.core.user.domain;
 
+import de.district.core.user.converter.UuidBinaryConverter;
 import de.district.core.user.domain.dto.UserDto;
 import de.splatgames.generators.annotation.dto.Dto;
 import de.splatgames.validations.valids.api.Validations;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,6 +19,7 @@ import lombok.ToString;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * The {@code User} class represents a user entity in the system, which is mapped to the {@code users} table in the database.
@@ -38,9 +42,14 @@ import java.util.Objects;
 @Setter
 @ToString
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.UUID_UNIQUE_CONSTRAINT, columnNames = "uuid"))
 public class User {
 
+    /**
+     * The name of the unique constraint on the {@code uuid} column.
+     */
+    public static final String UUID_UNIQUE_CONSTRAINT = "uk_users_uuid";
+
     /**
      * The unique identifier for the user, which is generated automatically.
      */
@@ -51,10 +60,12 @@ public class User {
 
     /**
      * The unique UUID of the user. This field is annotated with {@link Dto} to ensure it is included in the corresponding DTO.
+     * It is stored as {@code BINARY(16)} through the {@link UuidBinaryConverter}.
      */
     @Dto(order = 1)
-    @Column(name = "uuid", unique = true, nullable = false)
-    private String uuid;
+    @Column(name = "uuid", nullable = false, length = UuidBinaryConverter.UUID_BYTES, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
+    private UUID uuid;
 
     /**
      * The timestamp representing when the user was created. This field is required and is included in the corresponding DTO.
@@ -0,0 +1,28 @@
+package de.district.core.user.domain;
+
+import java.util.UUID;
+
+/**
+ * The {@code UserIdView} interface is a Spring Data projection of a {@link User} that only contains
+ * its UUID and identifier.
+ *
+ * @see de.district.core.user.repository.UserRepository#streamUserIds()
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+public interface UserIdView {
+
+    /**
+     * Retrieves the UUID of the user.
+     *
+     * @return the UUID of the user.
+     */
+    UUID getUuid();
+
+    /**
+     * Retrieves the identifier of the user.
+     *
+     * @return the identifier of the user.
+     */
+    Long getId();
+}
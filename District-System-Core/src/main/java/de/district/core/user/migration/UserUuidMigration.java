@@ -0,0 +1,50 @@
+package de.district.core.user.migration;
+
+import de.district.core.migration.ColumnTypeMigration;
+import de.district.core.user.converter.UuidBinaryConverter;
+import de.district.core.user.domain.User;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@code UserUuidMigration} class migrates the {@code users.uuid} column from its former 36-character string
+ * representation to {@code BINARY(16)}, as written by the {@link UuidBinaryConverter}.
+ *
+ * <p>The migration runs on startup if the column is still of a character type or if a previous run was interrupted,
+ * see {@link ColumnTypeMigration}. UUIDs that are not made of 32 hexadecimal digits are not converted and abort the
+ * migration before the original column is dropped. Afterwards the unique index declared by {@link User} is created
+ * if it does not exist yet.</p>
+ *
+ * @since 1.0.0
+ * @author Erik Pförtner
+ */
+@Component
+public class UserUuidMigration implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ColumnTypeMigration columnTypeMigration;
+
+    public UserUuidMigration(final JdbcTemplate jdbcTemplate, final ColumnTypeMigration columnTypeMigration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.columnTypeMigration = columnTypeMigration;
+    }
+
+    /**
+     * Checks the type of the {@code users.uuid} column and migrates it to {@code BINARY(16)} if necessary.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(@NotNull final ApplicationArguments args) {
+        boolean migrated = this.columnTypeMigration.migrate("users", "uuid", "uuid_bin",
+                "BINARY(" + UuidBinaryConverter.UUID_BYTES + ")",
+                "CASE WHEN REPLACE(uuid, '-', '') REGEXP '^[0-9a-fA-F]{32}$' THEN UNHEX(REPLACE(uuid, '-', '')) END");
+        if (migrated) {
+            // Hibernate created the index on the dropped column before this migration ran.
+            this.jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + User.UUID_UNIQUE_CONSTRAINT + " ON users (uuid)");
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package de.district.core.user.repository;
 
 import de.district.core.user.domain.User;
-import org.springframework.data.repository.CrudRepository;
+import de.district.core.user.domain.UserIdView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
- * The {@code UserRepository} interface extends {@link CrudRepository} and provides methods for performing CRUD operations
+ * The {@code UserRepository} interface extends {@link JpaRepository} and provides methods for performing CRUD operations
  * on {@link User} entities within the database.
  * This interface includes a custom query method for finding a user
  * by their unique UUID.
@@ -16,7 +25,7 @@ import java.util.Optional;
  * @since 1.0.0
  * @author Erik Pförtner
  */
-public interface UserRepository extends CrudRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * Finds a {@link User} by their unique UUID.
@@ -24,5 +33,26 @@ public interface UserRepository extends CrudRepository<User, Long> {
      * @param uuid the UUID of the user to be found.
      * @return an {@link Optional} containing the user if found, or empty if not.
      */
-    Optional<User> findByUuid(final String uuid);
+    Optional<User> findByUuid(final UUID uuid);
+
+    /**
+     * Finds the identifier of a {@link User} by their unique UUID without loading the entity itself.
+     *
+     * @param uuid the UUID of the user to be found.
+     * @return an {@link Optional} containing the user's identifier if found, or empty if not.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.uuid = :uuid")
+    Optional<Long> findIdByUuid(@Param("uuid") final UUID uuid);
+
+    /**
+     * Streams the UUID and identifier of every {@link User} without loading the entities themselves.
+     *
+     * <p>The returned {@link Stream} is backed by an open database cursor, so it must be consumed inside a
+     * transaction and closed afterwards.</p>
+     *
+     * @return a stream of {@link UserIdView} projections of all users.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.uuid AS uuid, u.id AS id FROM User u")
+    Stream<UserIdView> streamUserIds();
 }
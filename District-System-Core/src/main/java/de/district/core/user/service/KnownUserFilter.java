@@ -0,0 +1,103 @@
+package de.district.core.user.service;
+
+import de.district.core.user.config.UserConfiguration;
+import de.district.core.user.domain.UserIdView;
+import de.district.core.user.repository.UserRepository;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The {@code KnownUserFilter} class keeps the ids of all users known to the database in memory, so returning players
+ * can be provisioned during pre-login without querying the database.
+ *
+ * <p>The filter is loaded once on startup if {@link UserConfiguration#isPreloadKnownUsers()} is enabled and is kept
+ * current by the {@link UserIdResolver} whenever a new user is created. Users created by other servers that share
+ * the same database are not contained until the next restart, so an absent entry only means that the user
+ * is probably new.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see UserIdResolver
+ * @since 1.0.0
+ */
+@Service
+public class KnownUserFilter {
+
+    /**
+     * The value returned if a UUID is not known to the filter.
+     */
+    public static final long UNKNOWN = -1L;
+
+    private final Object2LongOpenHashMap<UUID> knownUserIds = new Object2LongOpenHashMap<>();
+    private volatile boolean loaded;
+
+    private final UserRepository userRepository;
+    private final UserConfiguration userConfiguration;
+
+    public KnownUserFilter(final UserRepository userRepository, final UserConfiguration userConfiguration) {
+        this.userRepository = userRepository;
+        this.userConfiguration = userConfiguration;
+        this.knownUserIds.defaultReturnValue(UNKNOWN);
+    }
+
+    /**
+     * Loads the ids of all known users from the database. This method is called once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!this.userConfiguration.isPreloadKnownUsers()) {
+            return;
+        }
+
+        synchronized (this.knownUserIds) {
+            this.knownUserIds.clear();
+            try (Stream<UserIdView> users = this.userRepository.streamUserIds()) {
+                users.forEach(user -> this.knownUserIds.put(user.getUuid(), user.getId().longValue()));
+            }
+            this.knownUserIds.trim();
+        }
+        this.loaded = true;
+    }
+
+    /**
+     * Checks whether the filter has been loaded.
+     *
+     * @return {@code true} if the filter has been loaded, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Retrieves the user id of the specified UUID.
+     *
+     * @param uuid the UUID of the player.
+     * @return the user id of the player, or {@link #UNKNOWN} if the player is not known.
+     */
+    public long getUserId(@NotNull final UUID uuid) {
+        synchronized (this.knownUserIds) {
+            return this.knownUserIds.getLong(uuid);
+        }
+    }
+
+    /**
+     * Adds a newly created user to the filter.
+     *
+     * @param uuid   the UUID of the player.
+     * @param userId the user id of the player.
+     */
+    public void add(@NotNull final UUID uuid, final long userId) {
+        synchronized (this.knownUserIds) {
+            this.knownUserIds.put(uuid, userId);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package de.district.core.user.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * The {@code ProvisionedUser} record is the result of provisioning a player's {@link de.district.core.user.domain.User}
+ * during pre-login. It is handed over to the join handler, so the player can be registered without any further
+ * database access on the main thread.
+ *
+ * @param uuid    the UUID of the player.
+ * @param userId  the id of the player's user entity.
+ * @param created {@code true} if the user entity was created during provisioning, {@code false} if it already existed.
+ * @author Erik Pförtner
+ * @see UserIdResolver#provision(UUID)
+ * @since 1.0.0
+ */
+public record ProvisionedUser(@NotNull UUID uuid, long userId, boolean created) {
+}
@@ -0,0 +1,205 @@
+package de.district.core.user.service;
+
+import de.district.core.user.domain.User;
+import de.district.core.user.domain.dto.UserDto;
+import de.district.core.user.repository.UserRepository;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * The {@code UserIdResolver} class maps player {@link UUID UUIDs} to the primitive identifier of their {@link User}
+ * entity, so services can query their repositories by user id instead of looking up the user by its UUID first.
+ *
+ * <p>The ids of online players are kept in a compact UUID-keyed map that is populated when a player joins and
+ * evicted when the player quits. Evicted entries and lookups for offline players are kept in a bounded
+ * least-recently-used cache, so repeated offline lookups (e.g. balance transfers to offline players) do not hit
+ * the database either. If the {@link KnownUserFilter} has been loaded, it is consulted before the database.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see UserServiceListener
+ * @since 1.0.0
+ */
+@Service
+public class UserIdResolver {
+
+    /**
+     * The value returned by the primitive maps if no id is cached for a UUID.
+     */
+    private static final long NO_ID = -1L;
+    /**
+     * The maximum amount of offline players whose ids are cached.
+     */
+    private static final int OFFLINE_CACHE_SIZE = 1024;
+
+    private final Object2LongOpenHashMap<UUID> onlineUserIds = new Object2LongOpenHashMap<>();
+    private final Object2LongLinkedOpenHashMap<UUID> offlineUserIds = new Object2LongLinkedOpenHashMap<>();
+
+    private final UserRepository userRepository;
+    private final KnownUserFilter knownUserFilter;
+
+    public UserIdResolver(final UserRepository userRepository, final KnownUserFilter knownUserFilter) {
+        this.userRepository = userRepository;
+        this.knownUserFilter = knownUserFilter;
+        this.onlineUserIds.defaultReturnValue(NO_ID);
+        this.offlineUserIds.defaultReturnValue(NO_ID);
+    }
+
+    /**
+     * Resolves the user id of the specified UUID. The database is only queried if the id is not cached yet.
+     *
+     * @param uuid the UUID of the player.
+     * @return an {@link OptionalLong} containing the user id, or empty if no user exists for the UUID.
+     */
+    public OptionalLong resolve(@NotNull final UUID uuid) {
+        long cached = getCached(uuid);
+        if (cached != NO_ID) {
+            return OptionalLong.of(cached);
+        }
+
+        return userRepository.findIdByUuid(uuid)
+                .map(id -> {
+                    cacheOffline(uuid, id);
+                    return OptionalLong.of(id);
+                })
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * Resolves the user id of the specified UUID from the caches only, without querying the database.
+     *
+     * @param uuid the UUID of the player.
+     * @return an {@link OptionalLong} containing the user id, or empty if the id is not cached.
+     */
+    public OptionalLong resolveCached(@NotNull final UUID uuid) {
+        long cached = getCached(uuid);
+        return cached == NO_ID ? OptionalLong.empty() : OptionalLong.of(cached);
+    }
+
+    /**
+     * Resolves the user id of the specified UUID and creates a new {@link User} if none exists yet.
+     *
+     * @param uuid the UUID of the player.
+     * @return the user id of the player.
+     * @see #provision(UUID)
+     */
+    public long resolveOrCreate(@NotNull final UUID uuid) {
+        return provision(uuid).userId();
+    }
+
+    /**
+     * Provisions the {@link User} of the specified UUID by resolving its id or inserting it if it is absent.
+     *
+     * <p>If the {@link KnownUserFilter} has been loaded and does not contain the UUID, the player is most likely
+     * new and the user is inserted right away. Should the user have been created concurrently, the unique
+     * constraint on the UUID rejects the insert and the existing id is looked up instead.</p>
+     *
+     * <p>This method may block on the database and should not be called on the main thread.</p>
+     *
+     * @param uuid the UUID of the player.
+     * @return the {@link ProvisionedUser} of the player.
+     */
+    public ProvisionedUser provision(@NotNull final UUID uuid) {
+        long cached = getCached(uuid);
+        if (cached != NO_ID) {
+            return new ProvisionedUser(uuid, cached, false);
+        }
+
+        if (!this.knownUserFilter.isLoaded()) {
+            Optional<Long> existing = userRepository.findIdByUuid(uuid);
+            if (existing.isPresent()) {
+                cacheOffline(uuid, existing.get());
+                return new ProvisionedUser(uuid, existing.get(), false);
+            }
+        }
+
+        try {
+            // TODO: Implement region detection
+            User user = userRepository.save(new User(new UserDto(uuid, System.currentTimeMillis(), "germany", false)));
+            this.knownUserFilter.add(uuid, user.getId());
+            cacheOffline(uuid, user.getId());
+            return new ProvisionedUser(uuid, user.getId(), true);
+        } catch (DataIntegrityViolationException e) {
+            long userId = userRepository.findIdByUuid(uuid).orElseThrow(() -> e);
+            this.knownUserFilter.add(uuid, userId);
+            cacheOffline(uuid, userId);
+            return new ProvisionedUser(uuid, userId, false);
+        }
+    }
+
+    /**
+     * Registers the user id of a player who joined the server.
+     *
+     * @param uuid   the UUID of the player.
+     * @param userId the user id of the player.
+     */
+    public void registerOnline(@NotNull final UUID uuid, final long userId) {
+        synchronized (this.offlineUserIds) {
+            this.offlineUserIds.removeLong(uuid);
+        }
+        synchronized (this.onlineUserIds) {
+            this.onlineUserIds.put(uuid, userId);
+        }
+    }
+
+    /**
+     * Evicts the user id of a player who left the server. The id is moved to the offline cache.
+     *
+     * @param uuid the UUID of the player.
+     */
+    public void unregisterOnline(@NotNull final UUID uuid) {
+        long userId;
+        synchronized (this.onlineUserIds) {
+            userId = this.onlineUserIds.removeLong(uuid);
+        }
+        if (userId != NO_ID) {
+            cacheOffline(uuid, userId);
+        }
+    }
+
+    /**
+     * Removes all cached user ids.
+     */
+    public void clear() {
+        synchronized (this.onlineUserIds) {
+            this.onlineUserIds.clear();
+        }
+        synchronized (this.offlineUserIds) {
+            this.offlineUserIds.clear();
+        }
+    }
+
+    private long getCached(@NotNull final UUID uuid) {
+        long userId;
+        synchronized (this.onlineUserIds) {
+            userId = this.onlineUserIds.getLong(uuid);
+        }
+        if (userId != NO_ID) {
+            return userId;
+        }
+        userId = this.knownUserFilter.getUserId(uuid);
+        if (userId != KnownUserFilter.UNKNOWN) {
+            return userId;
+        }
+        synchronized (this.offlineUserIds) {
+            return this.offlineUserIds.getAndMoveToLast(uuid);
+        }
+    }
+
+    private void cacheOffline(@NotNull final UUID uuid, final long userId) {
+        synchronized (this.offlineUserIds) {
+            this.offlineUserIds.putAndMoveToLast(uuid, userId);
+            if (this.offlineUserIds.size() > OFFLINE_CACHE_SIZE) {
+                this.offlineUserIds.removeFirstLong();
+            }
+        }
+    }
+}
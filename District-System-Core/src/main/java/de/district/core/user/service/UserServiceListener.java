@@ -1,22 +1,48 @@
 package de.district.core.user.service;
 
+import de.district.api.DistrictAPI;
+import de.district.core.entity.PlayerSessionRegistry;
+import de.district.core.user.aggregate.PlayerAggregate;
+import de.district.core.user.aggregate.PlayerAggregateService;
 import de.district.core.user.domain.User;
-import de.district.core.user.domain.dto.UserDto;
-import de.district.core.user.repository.UserRepository;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
 /**
  * The {@code UserServiceListener} class is a Spring service that listens for player-related events in the game,
  * specifically handling the first time a player joins the server.
  * If a player is joining for the first time, this
  * service will create a new {@link User} entity and save it to the database.
  *
+ * <p>Users are provisioned asynchronously during the {@link AsyncPlayerPreLoginEvent}, so the main thread never
+ * waits for the database during a join. The resulting {@link ProvisionedUser} is handed over to the
+ * {@link PlayerJoinEvent} handler, which registers the user id of the player in the {@link UserIdResolver}.
+ * The id is evicted again when the player quits.</p>
+ *
+ * <p>A provisioned user is only kept if the login is still allowed once all pre-login handlers have run. Users whose
+ * connection is lost before they join are discarded after {@link #PENDING_LOGIN_TIMEOUT}.</p>
+ *
+ * <p>Right after provisioning, the {@link PlayerAggregate} of the player is prefetched as well and attached to the
+ * player's session on join, so the first interactions of the player do not have to load anything.</p>
+ *
  * <p>This service is annotated with {@link Service} to indicate that it is a Spring-managed component and implements
  * the {@link Listener} interface to handle Bukkit events.</p>
  *
@@ -26,24 +52,134 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserServiceListener implements Listener {
 
+    /**
+     * The time after which a provisioned user that has not joined the server is discarded.
+     */
+    private static final Duration PENDING_LOGIN_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * The users provisioned during pre-login that have not joined the server yet.
+     */
+    private final Map<UUID, PendingLogin> pendingLogins = new ConcurrentHashMap<>();
+
+    @Autowired
+    private UserIdResolver userIdResolver;
+
+    @Autowired
+    private PlayerAggregateService playerAggregateService;
+
     @Autowired
-    private UserRepository userRepository;
+    private PlayerSessionRegistry sessionRegistry;
 
     /**
-     * Handles the {@link PlayerJoinEvent} and checks if the player is joining the server for the first time.
-     * If so, a new {@link User} entity is created and saved to the database.
+     * Handles the {@link AsyncPlayerPreLoginEvent} and provisions the {@link User} entity of the player off the
+     * main thread. If the user cannot be provisioned, the login is disallowed.
+     *
+     * @param event the event that is triggered before a player logs in.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onAsyncPlayerPreLogin(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        ProvisionedUser user;
+        try {
+            user = userIdResolver.provision(event.getUniqueId());
+        } catch (DataAccessException e) {
+            DistrictAPI.getLogger().log(Level.SEVERE, String.format("Failed to provision user %s", event.getUniqueId()), e);
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                    Component.text("§cDein Benutzerprofil konnte nicht geladen werden. Bitte versuche es erneut."));
+            return;
+        }
+
+        this.pendingLogins.put(event.getUniqueId(), new PendingLogin(user, prefetch(user), System.nanoTime()));
+    }
+
+    /**
+     * Handles the {@link AsyncPlayerPreLoginEvent} once all other handlers have run and discards the provisioned
+     * user if the login has been disallowed in the meantime. Provisioned users that have expired are discarded as
+     * well.
+     *
+     * @param event the event that is triggered before a player logs in.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLoginMonitor(final AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            this.pendingLogins.remove(event.getUniqueId());
+        }
+
+        long expiredBefore = System.nanoTime() - PENDING_LOGIN_TIMEOUT.toNanos();
+        this.pendingLogins.values().removeIf(login -> login.createdAt() - expiredBefore < 0);
+    }
+
+    /**
+     * Handles the {@link PlayerLoginEvent} and discards the provisioned user if the login has been disallowed.
+     *
+     * @param event the event that is triggered when a player logs in.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(final PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            this.pendingLogins.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Handles the {@link PlayerJoinEvent} and registers the user id of the player that has been provisioned
+     * during pre-login. The prefetched aggregate is attached to the player's session. If no provisioned user is
+     * available, the user is provisioned synchronously and the aggregate is loaded lazily by the services.
      *
      * @param event the event that is triggered when a player joins the server.
      */
     @EventHandler(priority = EventPriority.LOWEST)
     public void onPlayerFirstJoin(final PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        String uuid = player.getUniqueId().toString();
 
-        if (userRepository.findByUuid(uuid).isEmpty()) {
-            // TODO: Implement region detection
-            User user = new User(new UserDto(uuid, System.currentTimeMillis(), "germany", false));
-            userRepository.save(user);
+        PendingLogin login = this.pendingLogins.remove(player.getUniqueId());
+        if (login == null) {
+            ProvisionedUser user = userIdResolver.provision(player.getUniqueId());
+            userIdResolver.registerOnline(user.uuid(), user.userId());
+            return;
+        }
+
+        userIdResolver.registerOnline(login.user().uuid(), login.user().userId());
+        sessionRegistry.getOrOpen(player).setAggregate(login.aggregate());
+    }
+
+    /**
+     * Handles the {@link PlayerQuitEvent} and evicts the user id of the player from the online cache.
+     *
+     * @param event the event that is triggered when a player leaves the server.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        userIdResolver.unregisterOnline(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Loads the aggregate of the provisioned user. A failure is logged and does not prevent the login, since the
+     * services fall back to the repositories if no aggregate is attached.
+     *
+     * @param user the provisioned user.
+     * @return the aggregate of the user, or {@code null} if it could not be loaded.
+     */
+    private @Nullable PlayerAggregate prefetch(@NotNull final ProvisionedUser user) {
+        try {
+            return playerAggregateService.load(user.userId()).orElse(null);
+        } catch (DataAccessException e) {
+            DistrictAPI.getLogger().log(Level.WARNING, String.format("Failed to prefetch user %s", user.uuid()), e);
+            return null;
         }
     }
+
+    /**
+     * A user that has been provisioned during pre-login together with the prefetched aggregate.
+     *
+     * @param user      the provisioned user.
+     * @param aggregate the prefetched aggregate, or {@code null} if it could not be loaded.
+     * @param createdAt the {@link System#nanoTime()} at which the user has been provisioned.
+     */
+    private record PendingLogin(@NotNull ProvisionedUser user, @Nullable PlayerAggregate aggregate, long createdAt) {
+    }
 }